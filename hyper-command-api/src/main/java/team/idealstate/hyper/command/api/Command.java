@@ -24,6 +24,7 @@ import team.idealstate.hyper.command.api.complete.CommandCompleter;
 import team.idealstate.hyper.command.api.example.ExampleProvider;
 import team.idealstate.hyper.command.api.execute.CommandExecutor;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -50,12 +51,53 @@ public interface Command {
     @NotNull
     String getDescription();
 
+    /**
+     * @return 由根命令至此命令的描述以空格连接而成的路径
+     */
+    @NotNull
+    default String getPath() {
+        Command parent = getParent();
+        if (parent == null) {
+            return getDescription();
+        }
+        return parent.getPath() + " " + getDescription();
+    }
+
     @NotNull
     Command subCommand(@NotNull Command subCommand);
 
     @NotNull
     Command subCommands(@NotNull List<Command> subCommands);
 
+    /**
+     * @return 只读的子命令列表
+     */
+    @NotNull
+    default List<Command> getSubCommands() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * @return 是否为不可变的命令，不可变命令的整棵子树均不可变，可在多线程间安全地共享与调度
+     */
+    default boolean isFrozen() {
+        return false;
+    }
+
+    /**
+     * 将以此命令为根的子树复制为不可变的命令树，复制后对原命令树的修改不会影响复制结果。
+     * 复制结果的父命令链不会指向可变的命令，实现可能因此一并复制此命令的可变祖先。
+     *
+     * 默认经由 {@link FastCommand#freeze(Command)} 交给已安装的命令工厂冻结，
+     * 命令工厂无法如实复制的命令会以 {@link IllegalArgumentException} 拒绝。
+     *
+     * @return 不可变的命令，若此命令已不可变则返回其自身
+     */
+    @NotNull
+    default Command freeze() {
+        return FastCommand.freeze(this);
+    }
+
     @Nullable ExampleProvider getExampleProvider();
 
     @NotNull
@@ -83,15 +125,66 @@ public interface Command {
 
     boolean acceptArgument(@NotNull CommandContext context, String[] args);
 
+    /**
+     * @param cursor 当前命令对应的参数下标，由调度器在遍历时给出，无需再由父命令链推算
+     */
+    default boolean acceptArgument(@NotNull CommandContext context, String[] args, int cursor) {
+        return acceptArgument(context, args);
+    }
+
     @Nullable
     Command accept(@NotNull CommandContext context, String[] args);
 
+    /**
+     * @param cursor 子命令对应的参数下标
+     */
+    @Nullable
+    default Command accept(@NotNull CommandContext context, String[] args, int cursor) {
+        return accept(context, args);
+    }
+
     @Nullable
     List<String> complete(@NotNull CommandContext context, String[] args);
 
+    /**
+     * @param cursor 待补全的参数下标
+     */
+    @Nullable
+    default List<String> complete(@NotNull CommandContext context, String[] args, int cursor) {
+        return complete(context, args);
+    }
+
+    /**
+     * @param cursor 待补全的参数下标
+     * @param limit  最多返回的补全项数量
+     */
+    @Nullable
+    default List<String> complete(@NotNull CommandContext context, String[] args, int cursor, int limit) {
+        List<String> result = complete(context, args, cursor);
+        return result == null || result.size() <= limit ? result : result.subList(0, limit);
+    }
+
+    /**
+     * @param cursor 未被任何子命令接受的参数下标
+     * @param limit  最多返回的建议数量
+     * @return 与该参数相近的子命令字面量
+     */
+    @NotNull
+    default List<String> suggest(@NotNull CommandContext context, String[] args, int cursor, int limit) {
+        return Collections.emptyList();
+    }
+
     @Nullable
     Boolean execute(@NotNull CommandContext context, String[] args);
 
+    /**
+     * @param cursor 已被接受的参数数量
+     */
+    @Nullable
+    default Boolean execute(@NotNull CommandContext context, String[] args, int cursor) {
+        return execute(context, args);
+    }
+
     @Nullable
     Command getParent();
 
@@ -18,6 +18,9 @@ package team.idealstate.hyper.command.api;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.argument.ArgumentKind;
+import team.idealstate.hyper.command.api.argument.CaseFolding;
+import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
 
 import java.util.Set;
 
@@ -52,6 +55,33 @@ public interface CommandContext {
 
     @Nullable <T> T getValue(@NotNull String key, @NotNull Class<T> valueType);
 
+    /**
+     * 以槽位读写值，默认实现退化为以 {@link ContextKey#getName()} 读写。
+     */
+    @Nullable
+    default Object put(@NotNull ContextKey key, @Nullable Object value) {
+        return put(key.getName(), value);
+    }
+
+    @Nullable
+    default Object remove(@NotNull ContextKey key) {
+        return remove(key.getName());
+    }
+
+    default boolean hasValue(@NotNull ContextKey key) {
+        return hasValue(key.getName());
+    }
+
+    @Nullable
+    default Object getValue(@NotNull ContextKey key) {
+        return getValue(key.getName());
+    }
+
+    @Nullable
+    default <T> T getValue(@NotNull ContextKey key, @NotNull Class<T> valueType) {
+        return getValue(key.getName(), valueType);
+    }
+
     void clear();
 
     void reset();
@@ -59,6 +89,40 @@ public interface CommandContext {
     @NotNull
     String getArgument();
 
+    /**
+     * @return 当前参数的分类，同一次调度中同一位置的参数只会分类一次
+     */
+    @NotNull
+    default ArgumentKind getArgumentKind() {
+        return ArgumentKind.classify(getArgument());
+    }
+
+    /**
+     * @return 以指定方式折叠大小写后的当前参数，同一次调度中同一位置的参数以同一方式只会折叠一次
+     */
+    @NotNull
+    default String getFoldedArgument(@NotNull CaseFolding caseFolding) {
+        return caseFolding.fold(getArgument());
+    }
+
+    /**
+     * 以指定的转换器转换当前参数，同一次调度中同一位置的参数经同一转换器只会转换一次，
+     * 转换失败时抛出的异常同样会被缓存。
+     */
+    @Nullable
+    default <R> R convertArgument(@NotNull ArgumentConvertor<R> argumentConvertor) throws Throwable {
+        return argumentConvertor.convert(this, getArgument());
+    }
+
+    /**
+     * 与 {@link #convertArgument(ArgumentConvertor)} 相同，但以 {@link ArgumentConvertor#tryConvert(CommandContext, String)} 转换，
+     * 无法转换时返回 {@link ArgumentConvertor#REJECTED}。
+     */
+    @Nullable
+    default Object tryConvertArgument(@NotNull ArgumentConvertor<?> argumentConvertor) {
+        return argumentConvertor.tryConvert(this, getArgument());
+    }
+
     @NotNull
     String[] getArguments();
 
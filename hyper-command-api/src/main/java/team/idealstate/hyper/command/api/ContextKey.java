@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.api;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>ContextKey</p>
+ *
+ * <p>
+ * 预先解析为整数槽位的上下文键，应在构建命令树时通过 {@link #of(String)} 获取并保存，
+ * 此后以它读写上下文时无需再对字符串键进行散列。同名的键总是对应同一个槽位。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 12:05</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ContextKey {
+
+    private static final ConcurrentMap<String, ContextKey> KEYS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int slot;
+
+    private ContextKey(@NotNull String name, int slot) {
+        this.name = name;
+        this.slot = slot;
+    }
+
+    @NotNull
+    public static ContextKey of(@NotNull String name) {
+        AssertUtils.notBlank(name, "无效的键");
+        ContextKey key = KEYS.get(name);
+        if (key != null) {
+            return key;
+        }
+        synchronized (KEYS) {
+            return KEYS.computeIfAbsent(name, it -> new ContextKey(it, KEYS.size()));
+        }
+    }
+
+    /**
+     * @return 若该名称尚未通过 {@link #of(String)} 解析为槽位则返回 null
+     */
+    @Nullable
+    public static ContextKey find(@NotNull String name) {
+        return KEYS.get(name);
+    }
+
+    /**
+     * @return 当前已分配的槽位数量
+     */
+    public static int size() {
+        return KEYS.size();
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.api;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>DispatchResult</p>
+ *
+ * <p>
+ * 一次调度的结果。参数未能全部被命令树接受时，记录匹配中止处的参数下标，
+ * 以及该位置上与参数相近的字面量，可用于提示“你是不是想输入”。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 20:05</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class DispatchResult {
+
+    private static final DispatchResult NOT_EXECUTED = new DispatchResult(null, -1, Collections.emptyList());
+    private static final DispatchResult SUCCEEDED = new DispatchResult(true, -1, Collections.emptyList());
+    private static final DispatchResult FAILED = new DispatchResult(false, -1, Collections.emptyList());
+
+    private final Boolean result;
+    private final int failedIndex;
+    private final List<String> suggestions;
+
+    private DispatchResult(Boolean result, int failedIndex, List<String> suggestions) {
+        this.result = result;
+        this.failedIndex = failedIndex;
+        this.suggestions = suggestions;
+    }
+
+    /**
+     * @param result 命令执行器的执行结果，未执行时为 null
+     */
+    @NotNull
+    public static DispatchResult of(@Nullable Boolean result) {
+        return result == null ? NOT_EXECUTED : result ? SUCCEEDED : FAILED;
+    }
+
+    @NotNull
+    public static DispatchResult mismatched(int failedIndex, @NotNull List<String> suggestions) {
+        AssertUtils.isTrue(failedIndex >= 0, "参数下标不能小于 0");
+        AssertUtils.notNull(suggestions, "无效的建议列表");
+        return new DispatchResult(null, failedIndex, Collections.unmodifiableList(suggestions));
+    }
+
+    /**
+     * @return 与 {@link FastCommand#execute(Command, String[])} 的返回值相同
+     */
+    @Nullable
+    public Boolean getResult() {
+        return result;
+    }
+
+    /**
+     * @return 全部参数是否都被命令树接受
+     */
+    public boolean isMatched() {
+        return failedIndex < 0;
+    }
+
+    /**
+     * @return 未被接受的参数下标，全部参数都被接受时为 -1
+     */
+    public int getFailedIndex() {
+        return failedIndex;
+    }
+
+    /**
+     * @return 与未被接受的参数相近的字面量，按相近程度排列
+     */
+    @NotNull
+    public List<String> getSuggestions() {
+        return suggestions;
+    }
+
+    @Override
+    public String toString() {
+        return "DispatchResult{" +
+                "result=" + result +
+                ", failedIndex=" + failedIndex +
+                ", suggestions=" + suggestions +
+                '}';
+    }
+}
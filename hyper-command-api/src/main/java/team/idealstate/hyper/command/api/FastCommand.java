@@ -20,7 +20,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import team.idealstate.hyper.command.api.framework.CommandHandler;
 import team.idealstate.hyper.command.spi.CommandContextFactory;
+import team.idealstate.hyper.command.spi.CommandDispatcher;
 import team.idealstate.hyper.command.spi.CommandFactory;
+import team.idealstate.hyper.command.spi.CommandListener;
 import team.idealstate.hyper.commons.base.AssertUtils;
 
 import java.util.Iterator;
@@ -40,6 +42,8 @@ public abstract class FastCommand {
 
     private static final CommandContextFactory COMMAND_CONTEXT_FACTORY;
     private static final CommandFactory COMMAND_FACTORY;
+    private static final CommandDispatcher COMMAND_DISPATCHER;
+    private static final CommandListener COMMAND_LISTENER;
 
     static {
         ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
@@ -60,6 +64,19 @@ public abstract class FastCommand {
         } else {
             throw new IllegalStateException("未找到 CommandFactory 的实现");
         }
+        ServiceLoader<CommandDispatcher> commandDispatcherServiceLoader =
+                ServiceLoader.load(CommandDispatcher.class, contextClassLoader);
+        Iterator<CommandDispatcher> commandDispatcherIterator = commandDispatcherServiceLoader.iterator();
+        if (commandDispatcherIterator.hasNext()) {
+            COMMAND_DISPATCHER = commandDispatcherIterator.next();
+        } else {
+            throw new IllegalStateException("未找到 CommandDispatcher 的实现");
+        }
+        ServiceLoader<CommandListener> commandListenerServiceLoader =
+                ServiceLoader.load(CommandListener.class, contextClassLoader);
+        Iterator<CommandListener> commandListenerIterator = commandListenerServiceLoader.iterator();
+        // 监听器是可选的
+        COMMAND_LISTENER = commandListenerIterator.hasNext() ? commandListenerIterator.next() : null;
     }
 
     @NotNull
@@ -67,6 +84,14 @@ public abstract class FastCommand {
         return COMMAND_CONTEXT_FACTORY.createCommandContext();
     }
 
+    /**
+     * @return 已安装的命令调度监听器，未安装时为 null
+     */
+    @Nullable
+    public static CommandListener commandListener() {
+        return COMMAND_LISTENER;
+    }
+
     @NotNull
     public static Command root(String description) {
         return COMMAND_FACTORY.createRootCommand(description);
@@ -82,6 +107,19 @@ public abstract class FastCommand {
         return COMMAND_FACTORY.createCommand(commandHandlerClass);
     }
 
+    /**
+     * @return 不可变的命令，若 command 已不可变则返回其自身
+     * @see Command#freeze()
+     */
+    @NotNull
+    public static Command freeze(@NotNull Command command) {
+        AssertUtils.notNull(command, "无效的命令");
+        if (command.isFrozen()) {
+            return command;
+        }
+        return COMMAND_FACTORY.freezeCommand(command);
+    }
+
     @Nullable
     public static List<String> complete(@NotNull Command command, String[] args) {
         AssertUtils.notNull(command, "无效的命令");
@@ -89,14 +127,26 @@ public abstract class FastCommand {
         try {
             args = Command.promise(args);
             currentContext = currentContext();
-            for (int i = 0; i < args.length; i++) {
-                Command acceptedCommand = command.accept(currentContext, args);
-                if (acceptedCommand == null) {
-                    break;
-                }
-                command = acceptedCommand;
+            return COMMAND_DISPATCHER.complete(currentContext, command, args);
+        } finally {
+            if (currentContext != null) {
+                currentContext.reset();
             }
-            return command.complete(currentContext, args);
+        }
+    }
+
+    /**
+     * @param limit 最多返回的补全项数量，示例提供器可据此提前停止
+     */
+    @Nullable
+    public static List<String> complete(@NotNull Command command, String[] args, int limit) {
+        AssertUtils.notNull(command, "无效的命令");
+        AssertUtils.isTrue(limit > 0, "补全数量上限必须大于 0");
+        CommandContext currentContext = null;
+        try {
+            args = Command.promise(args);
+            currentContext = currentContext();
+            return COMMAND_DISPATCHER.complete(currentContext, command, args, limit);
         } finally {
             if (currentContext != null) {
                 currentContext.reset();
@@ -111,17 +161,22 @@ public abstract class FastCommand {
         try {
             args = Command.promise(args);
             currentContext = currentContext();
-            for (int i = 0; i < args.length; i++) {
-                command = command.accept(currentContext, args);
-                if (command == null) {
-                    break;
-                }
-            }
-            Boolean executed = null;
-            if (command != null) {
-                executed = command.execute(currentContext, args);
+            return COMMAND_DISPATCHER.execute(currentContext, command, args);
+        } finally {
+            if (currentContext != null) {
+                currentContext.reset();
             }
-            return executed;
+        }
+    }
+
+    @NotNull
+    public static DispatchResult dispatch(@NotNull Command command, String[] args) {
+        AssertUtils.notNull(command, "无效的命令");
+        CommandContext currentContext = null;
+        try {
+            args = Command.promise(args);
+            currentContext = currentContext();
+            return COMMAND_DISPATCHER.dispatch(currentContext, command, args);
         } finally {
             if (currentContext != null) {
                 currentContext.reset();
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.api.argument;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * <p>ArgumentKind</p>
+ *
+ * <p>
+ * 参数的粗略分类，每个参数在一次调度中只需分类一次，
+ * 兄弟节点的参数接收器可据此在解析前排除必然失败的类型。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 13:10</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ArgumentKind {
+
+    /**
+     * 空白参数
+     */
+    BLANK,
+    /**
+     * 整数，形如 {@code [+-]?\d+}
+     */
+    INTEGRAL,
+    /**
+     * 小数，形如 {@code [+-]?\d*\.\d+([eE][+-]?\d+)?}，也包括带指数的整数
+     */
+    DECIMAL,
+    /**
+     * 不区分大小写的 true 或 false
+     */
+    BOOLEAN,
+    /**
+     * 其他
+     */
+    WORD;
+
+    @NotNull
+    public static ArgumentKind classify(String argument) {
+        if (argument == null) {
+            return BLANK;
+        }
+        int length = argument.length();
+        int i = 0;
+        while (i < length && Character.isWhitespace(argument.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return BLANK;
+        }
+        if (i > 0 || Character.isWhitespace(argument.charAt(length - 1))) {
+            return WORD;
+        }
+        if ("true".equalsIgnoreCase(argument) || "false".equalsIgnoreCase(argument)) {
+            return BOOLEAN;
+        }
+        char c = argument.charAt(0);
+        if (c == '+' || c == '-') {
+            i++;
+        }
+        int integralDigits = 0;
+        while (i < length && Character.isDigit(argument.charAt(i))) {
+            i++;
+            integralDigits++;
+        }
+        if (i == length) {
+            return integralDigits > 0 ? INTEGRAL : WORD;
+        }
+        int fractionDigits = 0;
+        if (argument.charAt(i) == '.') {
+            i++;
+            while (i < length && isAsciiDigit(argument.charAt(i))) {
+                i++;
+                fractionDigits++;
+            }
+        }
+        if (integralDigits + fractionDigits == 0) {
+            return WORD;
+        }
+        if (i < length && (argument.charAt(i) == 'e' || argument.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (argument.charAt(i) == '+' || argument.charAt(i) == '-')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            while (i < length && isAsciiDigit(argument.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return WORD;
+            }
+        }
+        return i == length ? DECIMAL : WORD;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * 判断此类参数是否可能被标准转换器转换为指定类型，返回 false 时转换必然失败。
+     */
+    public boolean isConvertibleTo(@NotNull Class<?> type) {
+        if (this == BLANK) {
+            return false;
+        }
+        if (type == int.class || type == Integer.class
+                || type == long.class || type == Long.class
+                || type == short.class || type == Short.class
+                || type == byte.class || type == Byte.class
+                || type == BigInteger.class) {
+            return this == INTEGRAL;
+        }
+        if (type == BigDecimal.class) {
+            return this == INTEGRAL || this == DECIMAL;
+        }
+        // Double#parseDouble 还接受 NaN、Infinity 及十六进制等形式，故仅排除布尔值
+        if (type == double.class || type == Double.class || type == float.class || type == Float.class) {
+            return this != BOOLEAN;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.api.argument;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * <p>CaseFolding</p>
+ *
+ * <p>
+ * 不区分大小写比较时使用的大小写折叠方式。折叠结果可直接以 {@link String#equals(Object)} 比较或作为散列键，
+ * 非 ASCII 字符串会先规范化为 NFC 形式，再依次转为大写与小写，使 “ß” 与 “SS” 等写法折叠为相同的结果。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 16:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum CaseFolding {
+
+    /**
+     * 与区域无关的折叠，结果不受服务器默认区域影响
+     */
+    ROOT {
+        @Override
+        @NotNull
+        Locale locale() {
+            return Locale.ROOT;
+        }
+    },
+    /**
+     * 按默认区域折叠，例如土耳其语区域下 “I” 折叠为 “ı”
+     */
+    DEFAULT_LOCALE {
+        @Override
+        @NotNull
+        Locale locale() {
+            return Locale.getDefault();
+        }
+    };
+
+    @NotNull
+    abstract Locale locale();
+
+    /**
+     * @return 折叠后的字符串，已是折叠形式的 ASCII 字符串将原样返回
+     */
+    @NotNull
+    public String fold(@NotNull String string) {
+        AssertUtils.notNull(string, "无效的字符串");
+        int length = string.length();
+        boolean folded = true;
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+            if (c >= 0x80) {
+                Locale locale = locale();
+                return Normalizer.normalize(string, Normalizer.Form.NFC).toUpperCase(locale).toLowerCase(locale);
+            }
+            if (c >= 'A' && c <= 'Z') {
+                folded = false;
+            }
+        }
+        if (folded) {
+            return string;
+        }
+        if (this == DEFAULT_LOCALE) {
+            // 部分区域对 ASCII 字母有特殊规则
+            Locale locale = locale();
+            return string.toUpperCase(locale).toLowerCase(locale);
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+            chars[i] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return new String(chars);
+    }
+}
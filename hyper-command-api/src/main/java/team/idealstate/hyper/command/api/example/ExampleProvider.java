@@ -35,4 +35,23 @@ public interface ExampleProvider {
 
     @NotNull
     List<String> provideExample(@NotNull CommandContext context);
+
+    /**
+     * 流式地提供以 prefix 开头的示例，至多提供 limit 个，接收器返回 false 时停止。
+     * 数据量较大的提供者应重写此方法，直接按前缀与数量查询而不必构建完整的示例列表。
+     */
+    default void provideExample(@NotNull CommandContext context, @NotNull String prefix, int limit, @NotNull ExampleSink sink) {
+        int count = 0;
+        for (String example : provideExample(context)) {
+            if (count >= limit) {
+                return;
+            }
+            if (example != null && example.startsWith(prefix)) {
+                count++;
+                if (!sink.accept(example)) {
+                    return;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.api.example;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>ExampleSink</p>
+ *
+ * <p>
+ * 逐个接收示例的接收器，用于流式地提供示例。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 18:20</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ExampleSink {
+
+    /**
+     * @return 是否需要更多示例，返回 false 时提供者应立即停止
+     */
+    boolean accept(@NotNull String example);
+}
@@ -31,6 +31,32 @@ import team.idealstate.hyper.command.api.CommandContext;
  */
 public interface ArgumentConvertor<R> {
 
+    /**
+     * {@link #tryConvert(CommandContext, String)} 无法转换参数时返回的标记
+     */
+    Object REJECTED = new Object() {
+        @Override
+        public String toString() {
+            return "REJECTED";
+        }
+    };
+
     @Nullable
     R convert(@NotNull CommandContext context, @NotNull String argument) throws Throwable;
+
+    /**
+     * 不以异常表示转换失败的转换方式，调度时优先使用。
+     * 默认实现捕获 {@link #convert(CommandContext, String)} 抛出的异常，
+     * 实现类应当覆盖此方法，在不创建任何异常的情况下拒绝无效的参数。
+     *
+     * @return 转换结果，无法转换时返回 {@link #REJECTED}
+     */
+    @Nullable
+    default Object tryConvert(@NotNull CommandContext context, @NotNull String argument) {
+        try {
+            return convert(context, argument);
+        } catch (Throwable e) {
+            return REJECTED;
+        }
+    }
 }
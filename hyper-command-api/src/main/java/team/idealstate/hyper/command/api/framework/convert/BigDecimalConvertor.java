@@ -17,13 +17,13 @@
 package team.idealstate.hyper.command.api.framework.convert;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import team.idealstate.hyper.command.api.CommandContext;
 import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
 import team.idealstate.hyper.commons.base.AssertUtils;
+import team.idealstate.hyper.commons.base.StringUtils;
 
 import java.math.BigDecimal;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * <p>BigDecimalConvertor</p>
@@ -36,12 +36,25 @@ import java.util.Map;
  */
 public final class BigDecimalConvertor implements ArgumentConvertor<BigDecimal> {
 
-    private static final Map<String, BigDecimal> CACHE = new HashMap<>(64, 0.6F);
+    private static final ConvertorCache<BigDecimal> CACHE = new ConvertorCache<>(512, 64);
+
+    @NotNull
+    public static ConvertorCache<BigDecimal> getCache() {
+        return CACHE;
+    }
 
     @Override
     public @NotNull BigDecimal convert(@NotNull CommandContext context, @NotNull String argument) throws Throwable {
         AssertUtils.notNull(context, "无效的命令上下文");
         AssertUtils.isNumeric(argument, "无效的数字");
-        return CACHE.computeIfAbsent(argument, BigDecimal::new);
+        return CACHE.get(argument, BigDecimal::new);
+    }
+
+    @Override
+    public @Nullable Object tryConvert(@NotNull CommandContext context, @NotNull String argument) {
+        if (!StringUtils.isNumeric(argument) || !ConvertUtils.isBigDecimal(argument)) {
+            return REJECTED;
+        }
+        return CACHE.get(argument, BigDecimal::new);
     }
 }
@@ -17,9 +17,11 @@
 package team.idealstate.hyper.command.api.framework.convert;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import team.idealstate.hyper.command.api.CommandContext;
 import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
 import team.idealstate.hyper.commons.base.AssertUtils;
+import team.idealstate.hyper.commons.base.StringUtils;
 import team.idealstate.hyper.commons.base.BigIntegerUtils;
 
 import java.math.BigInteger;
@@ -34,10 +36,26 @@ import java.math.BigInteger;
  * @since 1.0.0
  */
 public final class BigIntegerConvertor implements ArgumentConvertor<BigInteger> {
+
+    private static final ConvertorCache<BigInteger> CACHE = new ConvertorCache<>(512, 64);
+
+    @NotNull
+    public static ConvertorCache<BigInteger> getCache() {
+        return CACHE;
+    }
+
     @Override
     public @NotNull BigInteger convert(@NotNull CommandContext context, @NotNull String argument) throws Throwable {
         AssertUtils.notNull(context, "无效的命令上下文");
         AssertUtils.isIntegral(argument, "无效的整数");
-        return BigIntegerUtils.valueOf(argument);
+        return CACHE.get(argument, BigIntegerUtils::valueOf);
+    }
+
+    @Override
+    public @Nullable Object tryConvert(@NotNull CommandContext context, @NotNull String argument) {
+        if (!StringUtils.isIntegral(argument)) {
+            return REJECTED;
+        }
+        return CACHE.get(argument, BigIntegerUtils::valueOf);
     }
 }
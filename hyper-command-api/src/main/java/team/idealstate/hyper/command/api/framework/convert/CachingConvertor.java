@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.api.framework.convert;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+/**
+ * <p>CachingConvertor</p>
+ *
+ * <p>
+ * 以 {@link ConvertorCache} 缓存另一个转换器的转换结果，用于让自定义转换器按需启用缓存。
+ * 转换失败的参数不会被缓存，被转换器的结果必须只取决于参数本身且不可变。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 14:35</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class CachingConvertor<R> implements ArgumentConvertor<R> {
+
+    private final ArgumentConvertor<R> convertor;
+    private final ConvertorCache<R> cache;
+
+    public CachingConvertor(@NotNull ArgumentConvertor<R> convertor, @NotNull ConvertorCache<R> cache) {
+        AssertUtils.notNull(convertor, "无效的参数转换器");
+        AssertUtils.notNull(cache, "无效的转换缓存");
+        this.convertor = convertor;
+        this.cache = cache;
+    }
+
+    @NotNull
+    public ConvertorCache<R> getCache() {
+        return cache;
+    }
+
+    @Override
+    public @Nullable R convert(@NotNull CommandContext context, @NotNull String argument) throws Throwable {
+        R value = cache.get(argument);
+        if (value != null) {
+            return value;
+        }
+        value = convertor.convert(context, argument);
+        if (value != null) {
+            cache.put(argument, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Object tryConvert(@NotNull CommandContext context, @NotNull String argument) {
+        R value = cache.get(argument);
+        if (value != null) {
+            return value;
+        }
+        Object result = convertor.tryConvert(context, argument);
+        if (result != null && result != REJECTED) {
+            cache.put(argument, (R) result);
+        }
+        return result;
+    }
+}
@@ -17,9 +17,11 @@
 package team.idealstate.hyper.command.api.framework.convert;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import team.idealstate.hyper.command.api.CommandContext;
 import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
 import team.idealstate.hyper.commons.base.AssertUtils;
+import team.idealstate.hyper.commons.base.StringUtils;
 
 /**
  * <p>CharacterConvertor</p>
@@ -40,4 +42,12 @@ public final class CharacterConvertor implements ArgumentConvertor<Character> {
         }
         return argument.charAt(0);
     }
+
+    @Override
+    public @Nullable Object tryConvert(@NotNull CommandContext context, @NotNull String argument) {
+        if (argument == null || argument.length() != 1 || StringUtils.isBlank(argument)) {
+            return REJECTED;
+        }
+        return argument.charAt(0);
+    }
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.api.framework.convert;
+
+/**
+ * <p>ConvertUtils</p>
+ *
+ * <p>
+ * 不抛出异常、不分配对象的参数格式校验，校验通过的参数交由对应的 JDK 解析方法解析时必定成功。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 13:42</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class ConvertUtils {
+
+    /**
+     * 与 {@link Long#parseLong(String)} 的规则一致，并要求结果介于 min 与 max 之间。
+     */
+    public static boolean isIntegral(String argument, long min, long max) {
+        if (argument == null) {
+            return false;
+        }
+        int length = argument.length();
+        if (length == 0) {
+            return false;
+        }
+        int i = 0;
+        boolean negative = false;
+        char first = argument.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (length == 1) {
+                return false;
+            }
+            i++;
+        }
+        // 以负数累加，避免 Long.MIN_VALUE 溢出
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0L;
+        for (; i < length; i++) {
+            int digit = Character.digit(argument.charAt(i), 10);
+            if (digit < 0 || result < multiplyLimit) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        long value = negative ? result : -result;
+        return value >= min && value <= max;
+    }
+
+    /**
+     * 与 {@link Double#parseDouble(String)} 的十进制规则一致（包括 NaN、Infinity 与类型后缀），
+     * 十六进制形式见 {@link #isHexDecimal(String)}。
+     */
+    public static boolean isDecimal(String argument) {
+        if (argument == null) {
+            return false;
+        }
+        int start = 0;
+        int end = argument.length();
+        while (start < end && argument.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argument.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+        int i = start;
+        char c = argument.charAt(i);
+        if (c == '+' || c == '-') {
+            i++;
+        }
+        if (argument.startsWith("NaN", i) || argument.startsWith("Infinity", i)) {
+            return argument.regionMatches(i, "NaN", 0, end - i) || argument.regionMatches(i, "Infinity", 0, end - i);
+        }
+        int digits = 0;
+        while (i < end && isAsciiDigit(argument.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < end && argument.charAt(i) == '.') {
+            i++;
+            while (i < end && isAsciiDigit(argument.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < end && (argument.charAt(i) == 'e' || argument.charAt(i) == 'E')) {
+            i++;
+            if (i < end && (argument.charAt(i) == '+' || argument.charAt(i) == '-')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            while (i < end && isAsciiDigit(argument.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+        if (i < end) {
+            c = argument.charAt(i);
+            if (c == 'f' || c == 'F' || c == 'd' || c == 'D') {
+                i++;
+            }
+        }
+        return i == end;
+    }
+
+    /**
+     * 与 {@link Double#parseDouble(String)} 的十六进制规则一致，即 {@code [+-]0x<有效数字>p[+-]<指数>} 及可选的类型后缀，
+     * 有效数字至少含一位十六进制数字，二进制指数不可省略。
+     */
+    public static boolean isHexDecimal(String argument) {
+        if (argument == null) {
+            return false;
+        }
+        int start = 0;
+        int end = argument.length();
+        while (start < end && argument.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argument.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int i = start;
+        if (i < end && (argument.charAt(i) == '+' || argument.charAt(i) == '-')) {
+            i++;
+        }
+        if (!argument.startsWith("0x", i) && !argument.startsWith("0X", i)) {
+            return false;
+        }
+        i += 2;
+        int digits = 0;
+        while (i < end && isAsciiHexDigit(argument.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < end && argument.charAt(i) == '.') {
+            i++;
+            while (i < end && isAsciiHexDigit(argument.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0 || i == end || (argument.charAt(i) != 'p' && argument.charAt(i) != 'P')) {
+            return false;
+        }
+        i++;
+        if (i < end && (argument.charAt(i) == '+' || argument.charAt(i) == '-')) {
+            i++;
+        }
+        int exponentDigits = 0;
+        while (i < end && isAsciiDigit(argument.charAt(i))) {
+            i++;
+            exponentDigits++;
+        }
+        if (exponentDigits == 0) {
+            return false;
+        }
+        if (i < end) {
+            char c = argument.charAt(i);
+            if (c == 'f' || c == 'F' || c == 'd' || c == 'D') {
+                i++;
+            }
+        }
+        return i == end;
+    }
+
+    /**
+     * 与 {@link java.math.BigDecimal#BigDecimal(String)} 的规则一致。
+     */
+    public static boolean isBigDecimal(String argument) {
+        if (argument == null) {
+            return false;
+        }
+        int length = argument.length();
+        int i = 0;
+        if (i < length && (argument.charAt(i) == '+' || argument.charAt(i) == '-')) {
+            i++;
+        }
+        int digits = 0;
+        while (i < length && Character.isDigit(argument.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < length && argument.charAt(i) == '.') {
+            i++;
+            while (i < length && Character.isDigit(argument.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < length && (argument.charAt(i) == 'e' || argument.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (argument.charAt(i) == '+' || argument.charAt(i) == '-')) {
+                i++;
+            }
+            // 指数须能以 int 表示
+            int exponentStart = i;
+            while (i < length && Character.isDigit(argument.charAt(i))) {
+                i++;
+            }
+            if (i == exponentStart || i - exponentStart > 9) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiHexDigit(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+}
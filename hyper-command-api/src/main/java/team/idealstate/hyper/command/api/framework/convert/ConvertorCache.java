@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.api.framework.convert;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * <p>ConvertorCache</p>
+ *
+ * <p>
+ * 有容量上限的参数转换结果缓存，可在并发环境下使用。
+ * 读取不加锁，仅为命中的条目累加访问计数；写入时以 GCLOCK 算法淘汰访问计数归零的条目，
+ * 短时间内被大量一次性参数冲刷时，常用条目因计数较高而得以保留。
+ * 长度超过上限的参数不会被缓存，因此缓存占用的内存始终与“容量 × 参数长度上限”成正比。
+ * </p>
+ *
+ * <p>
+ * 仅适用于结果只取决于参数本身、且结果为不可变对象的转换。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 14:20</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ConvertorCache<V> {
+
+    private static final int MAX_FREQUENCY = 3;
+
+    private final int capacity;
+    private final int maxKeyLength;
+    private final ConcurrentMap<String, Node<V>> nodeMap;
+    private final Node<V>[] clock;
+    private int hand = 0;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public ConvertorCache(int capacity, int maxKeyLength) {
+        AssertUtils.isTrue(capacity > 0, "缓存容量必须大于 0");
+        AssertUtils.isTrue(maxKeyLength > 0, "参数长度上限必须大于 0");
+        this.capacity = capacity;
+        this.maxKeyLength = maxKeyLength;
+        this.nodeMap = new ConcurrentHashMap<>(capacity * 4 / 3 + 1);
+        this.clock = (Node<V>[]) new Node<?>[capacity];
+    }
+
+    @Nullable
+    public V get(@NotNull String key) {
+        Node<V> node = nodeMap.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        // 允许并发下丢失部分计数，计数只用于决定淘汰顺序
+        if (node.frequency < MAX_FREQUENCY) {
+            node.frequency++;
+        }
+        return node.value;
+    }
+
+    /**
+     * 若未缓存则以 loader 加载，loader 返回 null 时不缓存。
+     */
+    @Nullable
+    public V get(@NotNull String key, @NotNull Function<String, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public void put(@NotNull String key, @NotNull V value) {
+        AssertUtils.notNull(key, "无效的键");
+        AssertUtils.notNull(value, "无效的值");
+        if (key.length() > maxKeyLength) {
+            return;
+        }
+        synchronized (clock) {
+            if (nodeMap.containsKey(key)) {
+                return;
+            }
+            Node<V> victim;
+            while ((victim = clock[hand]) != null && victim.frequency > 0) {
+                victim.frequency--;
+                hand = (hand + 1) % capacity;
+            }
+            if (victim != null) {
+                nodeMap.remove(victim.key);
+                evictions.increment();
+            }
+            Node<V> node = new Node<>(key, value);
+            clock[hand] = node;
+            nodeMap.put(key, node);
+            hand = (hand + 1) % capacity;
+        }
+    }
+
+    public void clear() {
+        synchronized (clock) {
+            nodeMap.clear();
+            for (int i = 0; i < capacity; i++) {
+                clock[i] = null;
+            }
+            hand = 0;
+        }
+    }
+
+    public int size() {
+        return nodeMap.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getMaxKeyLength() {
+        return maxKeyLength;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ConvertorCache{" +
+                "size=" + size() +
+                ", capacity=" + capacity +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                ", evictions=" + getEvictionCount() +
+                '}';
+    }
+
+    private static final class Node<V> {
+
+        private final String key;
+        private final V value;
+        private volatile int frequency = 0;
+
+        private Node(String key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package team.idealstate.hyper.command.api.framework.convert;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import team.idealstate.hyper.command.api.CommandContext;
 import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
 import team.idealstate.hyper.commons.base.AssertUtils;
@@ -37,4 +38,12 @@ public final class IntegerConvertor implements ArgumentConvertor<Integer> {
         AssertUtils.notBlank(argument, "无效的参数");
         return Integer.parseInt(argument);
     }
+
+    @Override
+    public @Nullable Object tryConvert(@NotNull CommandContext context, @NotNull String argument) {
+        if (!ConvertUtils.isIntegral(argument, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+            return REJECTED;
+        }
+        return Integer.parseInt(argument);
+    }
 }
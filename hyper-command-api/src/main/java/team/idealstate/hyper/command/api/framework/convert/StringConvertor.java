@@ -17,9 +17,11 @@
 package team.idealstate.hyper.command.api.framework.convert;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import team.idealstate.hyper.command.api.CommandContext;
 import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
 import team.idealstate.hyper.commons.base.AssertUtils;
+import team.idealstate.hyper.commons.base.StringUtils;
 
 /**
  * <p>StringConvertor</p>
@@ -37,4 +39,12 @@ public final class StringConvertor implements ArgumentConvertor<String> {
         AssertUtils.notBlank(argument, "无效的参数");
         return argument;
     }
+
+    @Override
+    public @Nullable Object tryConvert(@NotNull CommandContext context, @NotNull String argument) {
+        if (StringUtils.isBlank(argument)) {
+            return REJECTED;
+        }
+        return argument;
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.spi;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.DispatchResult;
+
+import java.util.List;
+
+/**
+ * <p>CommandDispatcher</p>
+ *
+ * <p>创建于 2026/10/18 10:05</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface CommandDispatcher {
+
+    @Nullable
+    List<String> complete(@NotNull CommandContext context, @NotNull Command command, @NotNull String[] args);
+
+    /**
+     * @param limit 最多返回的补全项数量
+     */
+    @Nullable
+    default List<String> complete(@NotNull CommandContext context, @NotNull Command command, @NotNull String[] args, int limit) {
+        List<String> result = complete(context, command, args);
+        return result == null || result.size() <= limit ? result : result.subList(0, limit);
+    }
+
+    @Nullable
+    Boolean execute(@NotNull CommandContext context, @NotNull Command command, @NotNull String[] args);
+
+    /**
+     * 与 {@link #execute(CommandContext, Command, String[])} 相同，但在参数未能全部被接受时给出中止位置与相近的字面量。
+     */
+    @NotNull
+    default DispatchResult dispatch(@NotNull CommandContext context, @NotNull Command command, @NotNull String[] args) {
+        return DispatchResult.of(execute(context, command, args));
+    }
+}
@@ -39,4 +39,12 @@ public interface CommandFactory {
 
     @NotNull
     Command createCommand(@NotNull Class<? extends CommandHandler> commandHandlerClass);
+
+    /**
+     * 将以 command 为根的子树复制为不可变的命令树，command 尚未冻结。
+     *
+     * @throws IllegalArgumentException 无法如实复制的命令，例如并非由此工厂创建的命令
+     */
+    @NotNull
+    Command freezeCommand(@NotNull Command command);
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.spi;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.command.api.Command;
+
+/**
+ * <p>CommandListener</p>
+ *
+ * <p>
+ * 可选的命令调度监听器，与其他 SPI 一样通过 {@link java.util.ServiceLoader} 发现，未提供实现时调度路径上不做任何记录。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 18:50</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface CommandListener {
+
+    /**
+     * 在命令首次被记录时调用，返回的记录器会被缓存于命令上，此后该命令的所有事件都交由它记录。
+     * 并发时同一命令可能被调用多次，此时仅保留其中之一。
+     *
+     * @param path 由 {@link Command#getPath()} 给出的命令路径
+     */
+    @NotNull
+    CommandRecorder createRecorder(@NotNull Command command, @NotNull String path);
+}
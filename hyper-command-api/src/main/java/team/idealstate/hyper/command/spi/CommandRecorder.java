@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.spi;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.action.CommandAction;
+
+/**
+ * <p>CommandRecorder</p>
+ *
+ * <p>
+ * 记录单个命令的调度事件，会在调度线程上被并发调用，实现应当无锁且不阻塞。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 18:52</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface CommandRecorder {
+
+    /**
+     * @param accepted 命令的参数接收器是否接受了参数
+     */
+    default void recordAccept(boolean accepted) {
+    }
+
+    default void recordIntercept(@NotNull CommandAction action) {
+    }
+
+    /**
+     * @param nanos  执行器的耗时
+     * @param result 执行结果，执行器抛出异常时为 null
+     */
+    default void recordExecute(long nanos, @Nullable Boolean result) {
+    }
+
+    /**
+     * @param count 以此命令的子命令补全得到的补全项数量
+     */
+    default void recordComplete(int count) {
+    }
+}
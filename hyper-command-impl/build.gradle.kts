@@ -11,6 +11,27 @@ val authors = project.ext["authors"] as String
 val javaVersion = project.ext["javaVersion"] as Int
 val charset = project.ext["charset"] as String
 
+// 多版本 jar 中 META-INF/versions/11 下的类，用于提交 jdk.jfr 事件
+val java11: SourceSet by sourceSets.creating {
+    java.srcDir("src/main/java11")
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+// 在 Java 11 运行时中测试 META-INF/versions/11 下的类，它们须排在主类路径之前
+val java11Test: SourceSet by sourceSets.creating {
+    java.srcDir("src/test/java11")
+    compileClasspath += java11.output + sourceSets.test.get().compileClasspath + sourceSets.main.get().output
+    runtimeClasspath += java11.output + sourceSets.test.get().runtimeClasspath
+}
+
+// 在单独的测试 JVM 中安装 CommandMetrics，其他测试仍覆盖未安装监听器的调度路径
+val metricsTest: SourceSet by sourceSets.creating {
+    java.srcDir("src/test/metrics/java")
+    resources.srcDir("src/test/metrics/resources")
+    compileClasspath += sourceSets.test.get().compileClasspath + sourceSets.main.get().output
+    runtimeClasspath += sourceSets.test.get().runtimeClasspath
+}
+
 dependencies {
     compileOnly("org.jetbrains:annotations:24.0.1")
 
@@ -22,6 +43,7 @@ dependencies {
 
     testCompileOnly("org.jetbrains:annotations:24.0.0")
     testImplementation(project(":hyper-command-api"))
+    testAnnotationProcessor(project(":hyper-command-processor"))
 }
 
 tasks.test {
@@ -43,11 +65,60 @@ tasks.compileJava {
     finalizedBy(tasks.test)
 }
 
+tasks.named<JavaCompile>(java11.compileJavaTaskName) {
+    javaCompiler.set(javaToolchains.compilerFor {
+        languageVersion.set(JavaLanguageVersion.of(11))
+        vendor.set(JvmVendorSpec.AZUL)
+    })
+    options.release.set(11)
+    options.encoding = charset
+    options.compilerArgs.add("-parameters")
+}
+
+tasks.named<JavaCompile>(java11Test.compileJavaTaskName) {
+    javaCompiler.set(javaToolchains.compilerFor {
+        languageVersion.set(JavaLanguageVersion.of(11))
+        vendor.set(JvmVendorSpec.AZUL)
+    })
+    options.release.set(11)
+    options.encoding = charset
+    options.compilerArgs.add("-parameters")
+}
+
+val testJava11 = tasks.register<Test>("testJava11") {
+    description = "Runs the tests of the Java 11 classes on a Java 11 runtime."
+    group = "verification"
+    testClassesDirs = java11Test.output.classesDirs
+    classpath = java11Test.runtimeClasspath
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion.set(JavaLanguageVersion.of(11))
+        vendor.set(JvmVendorSpec.AZUL)
+    })
+    useJUnitPlatform()
+}
+
+val testMetrics = tasks.register<Test>("testMetrics") {
+    description = "Runs the tests of CommandMetrics with the listener installed."
+    group = "verification"
+    testClassesDirs = metricsTest.output.classesDirs
+    classpath = metricsTest.runtimeClasspath
+    useJUnitPlatform()
+}
+
+tasks.check {
+    dependsOn(testJava11, testMetrics)
+}
+
 tasks.compileTestJava {
     options.encoding = charset
     options.compilerArgs.add("-parameters")
 }
 
+tasks.named<JavaCompile>(metricsTest.compileJavaTaskName) {
+    options.encoding = charset
+    options.compilerArgs.add("-parameters")
+}
+
 tasks.processResources {
     filteringCharset = charset
     includeEmptyDirs = false
@@ -73,6 +144,9 @@ val manifestAttributes: MutableMap<String, *> = linkedMapOf(
 tasks.register<Jar>("sourcesJar") {
     archiveClassifier.set("sources")
     from(sourceSets.main.get().allSource)
+    into("META-INF/versions/11") {
+        from(java11.allSource)
+    }
     manifest {
         attributes(manifestAttributes)
     }
@@ -107,6 +181,9 @@ val javadocJar = tasks.named<Jar>("javadocJar")
 tasks.jar {
     dependsOn(sourcesJar, javadocJar)
     archiveClassifier.set("")
+    into("META-INF/versions/11") {
+        from(java11.output)
+    }
     manifest {
         attributes(manifestAttributes)
     }
@@ -0,0 +1,437 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.api.action.ActionInterceptor;
+import team.idealstate.hyper.command.api.action.CommandAction;
+import team.idealstate.hyper.command.api.argument.ArgumentAcceptor;
+import team.idealstate.hyper.command.api.complete.CommandCompleter;
+import team.idealstate.hyper.command.api.example.ExampleProvider;
+import team.idealstate.hyper.command.api.example.ExampleSink;
+import team.idealstate.hyper.command.api.execute.CommandExecutor;
+import team.idealstate.hyper.command.impl.complete.CompleterUtils;
+import team.idealstate.hyper.command.impl.complete.FuzzyIndex;
+import team.idealstate.hyper.command.impl.example.ExampleUtils;
+import team.idealstate.hyper.command.impl.jfr.JfrEvents;
+import team.idealstate.hyper.command.spi.CommandListener;
+import team.idealstate.hyper.command.spi.CommandRecorder;
+import team.idealstate.hyper.commons.base.AssertUtils;
+import team.idealstate.hyper.commons.base.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>AbstractCommand</p>
+ *
+ * <p>
+ * {@link CommandImpl} 与 {@link FrozenCommand} 共用的调度逻辑，子命令按添加顺序匹配。
+ * 安装了 {@link CommandListener} 时，各命令在首次被记录时取得并缓存自己的记录器；
+ * 未安装时监听器为 null 常量，记录分支会被即时编译器整体消除。
+ * </p>
+ *
+ * <p>
+ * 调度的诊断信息只在日志级别为 TRACE，或命令位于通过 {@link #setTracing(boolean)} 开启了追踪的子树中时才会生成，
+ * 其余情况下每次访问节点只需读取日志级别与一个计数器，不会装箱参数或创建任何对象。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 15:02</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class AbstractCommand implements Command {
+
+    private static final Logger logger = LogManager.getLogger(AbstractCommand.class);
+    private static final CommandListener LISTENER = FastCommand.commandListener();
+
+    // 开启了追踪的子树数量，为 0 时无需沿父命令链查找
+    private static final AtomicInteger TRACING_SUBTREES = new AtomicInteger();
+
+    private volatile CommandRecorder recorder = null;
+    private volatile boolean tracing = false;
+
+    AbstractCommand() {
+    }
+
+    /**
+     * 在运行时开启或关闭以此命令为根的子树的调度追踪，无需将整个日志记录器调整为 TRACE 级别。
+     * 子树中的追踪信息以 INFO 级别输出。追踪标记属于命令节点本身，冻结得到的副本不会继承它，
+     * 因此应在实际参与调度的命令上开启，例如 {@link CommandRegistry#register(Command)} 的返回值。
+     */
+    public synchronized void setTracing(boolean tracing) {
+        if (this.tracing == tracing) {
+            return;
+        }
+        this.tracing = tracing;
+        if (tracing) {
+            TRACING_SUBTREES.incrementAndGet();
+        } else {
+            TRACING_SUBTREES.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return 是否在此命令上开启了追踪，不考虑其父命令
+     */
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    /**
+     * @return 应以何种级别输出此命令的诊断信息，无需输出时为 null
+     */
+    @Nullable
+    private static Level traceLevelOf(@NotNull Command command) {
+        if (logger.isTraceEnabled()) {
+            return Level.TRACE;
+        }
+        if (TRACING_SUBTREES.get() == 0) {
+            return null;
+        }
+        for (Command current = command; current != null; current = current.getParent()) {
+            if (current instanceof AbstractCommand && ((AbstractCommand) current).tracing) {
+                return Level.INFO;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    static CommandRecorder recorderOf(@NotNull Command command) {
+        if (LISTENER == null || !(command instanceof AbstractCommand)) {
+            return null;
+        }
+        return ((AbstractCommand) command).recorder();
+    }
+
+    @NotNull
+    private CommandRecorder recorder() {
+        CommandRecorder recorder = this.recorder;
+        if (recorder == null) {
+            recorder = LISTENER.createRecorder(this, getPath());
+            AssertUtils.notNull(recorder, "无效的命令记录器");
+            this.recorder = recorder;
+        }
+        return recorder;
+    }
+
+    protected static boolean intercept(@NotNull Command command, @NotNull CommandContext context, @NotNull CommandAction action, String[] args) {
+        AssertUtils.notNull(command, "无效的命令");
+        return intercept(command, context, action, args, command.getDepth());
+    }
+
+    protected static boolean intercept(@NotNull Command command, @NotNull CommandContext context, @NotNull CommandAction action, String[] args, int depth) {
+        AssertUtils.notNull(command, "无效的命令");
+        AssertUtils.notNull(context, "无效的命令上下文");
+        AssertUtils.notNull(action, "无效的命令动作");
+        args = Command.promise(args);
+        boolean result = false;
+        if (args.length > depth) {
+            ActionInterceptor actionInterceptor = command.getActionInterceptor();
+            if (actionInterceptor != null) {
+                Object event = JfrEvents.beginIntercept();
+                result = actionInterceptor.intercept(context, action);
+                JfrEvents.endIntercept(event, command, action, depth, result);
+            }
+        }
+        if (result) {
+            CommandRecorder recorder = recorderOf(command);
+            if (recorder != null) {
+                recorder.recordIntercept(action);
+            }
+        }
+        Level level = traceLevelOf(command);
+        if (level != null) {
+            // 参数不足时不会询问拦截器，此时没有可输出的参数
+            String argument = args.length > depth ? args[depth] : null;
+            logger.log(level, result ? "[Command]({}) 拦截操作：{}，参数长度：{}，命令深度：{}"
+                            : "[Command]({}) 放行操作：{}，参数长度：{}，命令深度：{}",
+                    command.getDescription(), argument, args.length, depth);
+        }
+        return result;
+    }
+
+    @NotNull
+    abstract SubCommandIndex getSubCommandIndex();
+
+    /**
+     * @return 补全时代表该子命令提供示例的提供器，默认为子命令自身的示例提供器
+     */
+    @Nullable
+    ExampleProvider exampleProviderOf(@NotNull Command subCommand) {
+        return subCommand.getExampleProvider();
+    }
+
+    @Override
+    public boolean acceptArgument(@NotNull CommandContext context, String[] args) {
+        return acceptArgument(context, args, getDepth());
+    }
+
+    @Override
+    public boolean acceptArgument(@NotNull CommandContext context, String[] args, int cursor) {
+        AssertUtils.notNull(context, "无效的命令上下文");
+        args = Command.promise(args);
+        if (cursor >= 0 && args.length > cursor && !StringUtils.isBlank(args[cursor])) {
+            context.setArguments(args);
+            context.setDepth(cursor);
+            ArgumentAcceptor argumentAcceptor = getArgumentAcceptor();
+            boolean result = argumentAcceptor != null && argumentAcceptor.acceptArgument(context);
+            if (LISTENER != null) {
+                recorder().recordAccept(result);
+            }
+            Level level = traceLevelOf(this);
+            if (level != null) {
+                logger.log(level, result ? "[Command]({}) 参数命中：{}，参数长度：{}，命令深度：{}"
+                                : "[Command]({}) 参数无效：{}，参数长度：{}，命令深度：{}",
+                        getDescription(), args[cursor], args.length, cursor);
+            }
+            return result;
+        }
+        return false;
+    }
+
+    @Override
+    public @Nullable Command accept(@NotNull CommandContext context, String[] args) {
+        return accept(context, args, isRoot() ? 0 : getDepth() + 1);
+    }
+
+    @Override
+    public @Nullable Command accept(@NotNull CommandContext context, String[] args, int cursor) {
+        AssertUtils.notNull(context, "无效的命令上下文");
+        args = Command.promise(args);
+        if (cursor >= 0 && args.length > cursor && !StringUtils.isBlank(args[cursor])) {
+            return getSubCommandIndex().accept(context, args, cursor);
+        }
+        return null;
+    }
+
+    @Override
+    public @Nullable List<String> complete(@NotNull CommandContext context, String[] args) {
+        return complete(context, args, isRoot() ? 0 : getDepth() + 1);
+    }
+
+    @Override
+    public @Nullable List<String> complete(@NotNull CommandContext context, String[] args, int cursor) {
+        AssertUtils.notNull(context, "无效的命令上下文");
+        args = Command.promise(args);
+        List<String> result = null;
+        if (cursor >= 0 && args.length - 1 == cursor) {
+            List<String> examples = null;
+            List<String> merged = null;
+            context.setArguments(args);
+            context.setDepth(cursor);
+            for (Command subCommand : getSubCommands()) {
+                ExampleProvider exampleProvider = exampleProviderOf(subCommand);
+                if (exampleProvider == null) {
+                    continue;
+                }
+                if (intercept(subCommand, context, CommandAction.COMPLETE, args, cursor)) {
+                    continue;
+                }
+                List<String> subExamples = exampleProvider.provideExample(context);
+                AssertUtils.notNull(subExamples, "无效的示例列表");
+                if (subExamples.isEmpty()) {
+                    continue;
+                }
+                CommandCompleter completer = subCommand.getCommandCompleter();
+                if (completer != null && StringUtils.isBlank(args[cursor])) {
+                    subExamples = completer.complete(context, subExamples);
+                }
+                // 只有一个子命令提供示例时直接使用其示例列表，以便默认补全器利用其索引
+                if (examples == null) {
+                    examples = subExamples;
+                } else {
+                    if (merged == null) {
+                        merged = new ArrayList<>(examples);
+                        examples = merged;
+                    }
+                    merged.addAll(subExamples);
+                }
+            }
+            if (examples != null) {
+                Level level = traceLevelOf(this);
+                if (level != null) {
+                    logger.log(level, "[Command]({}) 补全命令：{} 项", getDescription(), examples.size());
+                }
+                result = CompleterUtils.defaultCompleter().complete(context, examples);
+                if (LISTENER != null) {
+                    recorder().recordComplete(result.size());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 流式补全：依次向子命令的示例提供器请求以当前参数开头的示例，凑满 limit 个即停止。
+     * 没有任何匹配项时返回排名最靠前的若干模糊匹配项，与 {@link #complete(CommandContext, String[], int)}
+     * 的结果截取前 limit 个时的匹配规则一致；以 {@link StringIndex} 为示例的提供器使用其模糊索引，
+     * 其余提供器至多扫描 {@link CompleterUtils#FALLBACK_SCAN_LIMIT} 个示例。
+     */
+    @Override
+    public @Nullable List<String> complete(@NotNull CommandContext context, String[] args, int cursor, int limit) {
+        AssertUtils.notNull(context, "无效的命令上下文");
+        AssertUtils.isTrue(limit > 0, "补全数量上限必须大于 0");
+        args = Command.promise(args);
+        if (cursor < 0 || args.length - 1 != cursor) {
+            return null;
+        }
+        context.setArguments(args);
+        context.setDepth(cursor);
+        String prefix = args[cursor];
+        boolean blank = StringUtils.isBlank(prefix);
+        List<String> result = new ArrayList<>(Math.min(limit, 32));
+        ExampleSink sink = (example) -> {
+            result.add(example);
+            return result.size() < limit;
+        };
+        List<ExampleProvider> providers = null;
+        for (Command subCommand : getSubCommands()) {
+            ExampleProvider exampleProvider = exampleProviderOf(subCommand);
+            if (exampleProvider == null) {
+                continue;
+            }
+            if (intercept(subCommand, context, CommandAction.COMPLETE, args, cursor)) {
+                continue;
+            }
+            if (providers == null) {
+                providers = new ArrayList<>();
+            }
+            providers.add(exampleProvider);
+            CommandCompleter completer = subCommand.getCommandCompleter();
+            if (completer != null && blank) {
+                // 补全器需要完整的示例列表
+                List<String> subExamples = exampleProvider.provideExample(context);
+                AssertUtils.notNull(subExamples, "无效的示例列表");
+                for (String example : completer.complete(context, subExamples)) {
+                    if (example != null && example.startsWith(prefix) && !sink.accept(example)) {
+                        break;
+                    }
+                }
+            } else {
+                exampleProvider.provideExample(context, prefix, limit - result.size(), sink);
+            }
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        if (providers == null) {
+            return null;
+        }
+        if (result.isEmpty()) {
+            // 空白参数必定匹配所有示例，因此此处的参数不是空白的，无需考虑补全器
+            int rankingLimit = Math.min(limit, CompleterUtils.FALLBACK_LIMIT);
+            FuzzyIndex.Ranking ranking = new FuzzyIndex.Ranking(prefix, rankingLimit);
+            boolean provided = false;
+            int budget = CompleterUtils.FALLBACK_SCAN_LIMIT;
+            for (ExampleProvider exampleProvider : providers) {
+                StringIndex index = ExampleUtils.indexOf(exampleProvider);
+                if (index != null) {
+                    // 有索引的提供器只需合并其模糊索引中排名靠前的匹配项
+                    provided |= !index.isEmpty();
+                    for (String example : index.getFuzzyIndex().search(prefix, rankingLimit)) {
+                        ranking.accept(example);
+                    }
+                } else if (budget > 0) {
+                    // 没有索引的提供器只能逐个匹配，所有此类提供器共享扫描数量上限，使每次补全的耗时有界
+                    int before = ranking.getCount();
+                    exampleProvider.provideExample(context, "", budget, ranking);
+                    budget -= ranking.getCount() - before;
+                    provided |= ranking.getCount() != before;
+                }
+            }
+            if (!provided) {
+                return null;
+            }
+            List<String> ranked = ranking.getResult();
+            if (LISTENER != null) {
+                recorder().recordComplete(ranked.size());
+            }
+            return ranked;
+        }
+        Level level = traceLevelOf(this);
+        if (level != null) {
+            logger.log(level, "[Command]({}) 补全命令：{} 项", getDescription(), result.size());
+        }
+        if (LISTENER != null) {
+            recorder().recordComplete(result.size());
+        }
+        return result;
+    }
+
+    @Override
+    public @NotNull List<String> suggest(@NotNull CommandContext context, String[] args, int cursor, int limit) {
+        AssertUtils.notNull(context, "无效的命令上下文");
+        args = Command.promise(args);
+        if (cursor < 0 || cursor >= args.length || StringUtils.isBlank(args[cursor])) {
+            return Collections.emptyList();
+        }
+        return getSubCommandIndex().suggest(args[cursor], limit);
+    }
+
+    @Override
+    public @Nullable Boolean execute(@NotNull CommandContext context, String[] args) {
+        return execute(context, args, getDepth() + 1);
+    }
+
+    @Override
+    public @Nullable Boolean execute(@NotNull CommandContext context, String[] args, int cursor) {
+        AssertUtils.notNull(context, "无效的命令上下文");
+        args = Command.promise(args);
+        if (cursor > 0 && args.length == cursor) {
+            CommandExecutor executor = getCommandExecutor();
+            if (executor != null) {
+                context.setArguments(args);
+                context.setDepth(cursor - 1);
+                if (!intercept(this, context, CommandAction.EXECUTE, args, cursor - 1)) {
+                    Level level = traceLevelOf(this);
+                    if (level != null) {
+                        logger.log(level, "[Command]({}) 执行命令", getDescription());
+                    }
+                    if (LISTENER == null) {
+                        return executor.execute(context);
+                    }
+                    return execute(executor, context, recorder());
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean execute(@NotNull CommandExecutor executor, @NotNull CommandContext context, @NotNull CommandRecorder recorder) {
+        Boolean result = null;
+        long start = System.nanoTime();
+        try {
+            result = executor.execute(context);
+            return result;
+        } finally {
+            recorder.recordExecute(System.nanoTime() - start, result);
+        }
+    }
+}
@@ -20,6 +20,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import team.idealstate.hyper.command.api.Command;
 import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.ContextKey;
+import team.idealstate.hyper.command.api.argument.ArgumentKind;
+import team.idealstate.hyper.command.api.argument.CaseFolding;
+import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
+import team.idealstate.hyper.command.impl.jfr.JfrEvents;
 import team.idealstate.hyper.commons.base.AssertUtils;
 
 import java.util.*;
@@ -29,6 +34,9 @@ import java.util.*;
  *
  * <p>
  * 这个实现是一个简单的命令上下文实现，它并不是并发安全的（话虽如此，但通常情况下它不会在并发环境下使用）。
+ * 已解析为 {@link ContextKey} 的键存放于按槽位索引的数组中，{@link #clear()} 仅清理实际使用过的槽位；
+ * 其余的临时字符串键存放于按需创建的散列表中。
+ * 每个位置的参数的分类与转换结果会被缓存，直到该位置的参数发生变化。
  * </p>
  *
  * <p>创建于 2024/2/16 16:55</p>
@@ -39,69 +47,213 @@ import java.util.*;
  */
 public class CommandContextImpl implements CommandContext {
 
-    private final Map<String, Object> valueMap = new LinkedHashMap<>(16, 0.6F);
+    private static final Object[] EMPTY_VALUES = new Object[0];
+    private static final ContextKey[] EMPTY_KEYS = new ContextKey[0];
+    private static final ArgumentMemo[] EMPTY_MEMOS = new ArgumentMemo[0];
+    private static final int CASE_FOLDINGS = CaseFolding.values().length;
+    // 用于区分“值为 null”与“不存在”
+    private static final Object NULL = new Object();
+
+    private Object[] values = EMPTY_VALUES;
+    private ContextKey[] keys = EMPTY_KEYS;
+    private int[] usedSlots = new int[8];
+    private int usedCount = 0;
+    private Map<String, Object> valueMap = null;
+    private ArgumentMemo[] memos = EMPTY_MEMOS;
     private String[] arguments = Command.EMPTY_ARGS;
     private int depth = -1;
 
+    private static Object mask(Object value) {
+        return value == null ? NULL : value;
+    }
+
+    private static Object unmask(Object value) {
+        return value == NULL ? null : value;
+    }
+
+    private Object putSlot(@NotNull ContextKey key, Object value) {
+        int slot = key.getSlot();
+        if (slot >= values.length) {
+            int capacity = Math.max(slot + 1, ContextKey.size());
+            values = Arrays.copyOf(values, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+        }
+        Object old = values[slot];
+        if (old == null) {
+            if (usedCount == usedSlots.length) {
+                usedSlots = Arrays.copyOf(usedSlots, usedCount << 1);
+            }
+            usedSlots[usedCount++] = slot;
+            keys[slot] = key;
+        }
+        values[slot] = mask(value);
+        return unmask(old);
+    }
+
+    private Object getSlot(@NotNull ContextKey key) {
+        int slot = key.getSlot();
+        return slot < values.length ? values[slot] : null;
+    }
+
+    private Object removeSlot(@NotNull ContextKey key) {
+        int slot = key.getSlot();
+        Object old = slot < values.length ? values[slot] : null;
+        if (old == null) {
+            return null;
+        }
+        values[slot] = null;
+        keys[slot] = null;
+        for (int i = 0; i < usedCount; i++) {
+            if (usedSlots[i] == slot) {
+                System.arraycopy(usedSlots, i + 1, usedSlots, i, --usedCount - i);
+                break;
+            }
+        }
+        return unmask(old);
+    }
+
+    private Object getMasked(@NotNull String key) {
+        ContextKey contextKey = ContextKey.find(key);
+        Object value = contextKey == null ? null : getSlot(contextKey);
+        if (value == null && valueMap != null) {
+            value = valueMap.containsKey(key) ? mask(valueMap.get(key)) : null;
+        }
+        return value;
+    }
+
+    private Object getMasked(@NotNull ContextKey key) {
+        Object value = getSlot(key);
+        if (value == null && valueMap != null) {
+            value = valueMap.containsKey(key.getName()) ? mask(valueMap.get(key.getName())) : null;
+        }
+        return value;
+    }
+
     @Override
     public @Nullable Object put(@NotNull String key, @Nullable Object value) {
         AssertUtils.notBlank(key, "无效的键");
-        return valueMap.put(key, value);
+        ContextKey contextKey = ContextKey.find(key);
+        if (contextKey == null) {
+            if (valueMap == null) {
+                valueMap = new LinkedHashMap<>(16, 0.6F);
+            }
+            return valueMap.put(key, value);
+        }
+        if (valueMap != null && valueMap.containsKey(key)) {
+            Object old = valueMap.remove(key);
+            putSlot(contextKey, value);
+            return old;
+        }
+        return putSlot(contextKey, value);
+    }
+
+    @Override
+    public @Nullable Object put(@NotNull ContextKey key, @Nullable Object value) {
+        AssertUtils.notNull(key, "无效的键");
+        // 键创建前以名称存入的值保存在 valueMap 中，写入槽位时一并移除，避免同一名称对应两个值
+        if (valueMap != null && valueMap.containsKey(key.getName())) {
+            Object old = valueMap.remove(key.getName());
+            putSlot(key, value);
+            return old;
+        }
+        return putSlot(key, value);
     }
 
     @Override
     public @Nullable Object remove(@NotNull String key) {
         AssertUtils.notBlank(key, "无效的键");
-        return valueMap.remove(key);
+        ContextKey contextKey = ContextKey.find(key);
+        Object old = contextKey == null ? null : removeSlot(contextKey);
+        if (valueMap != null && valueMap.containsKey(key)) {
+            old = valueMap.remove(key);
+        }
+        return old;
+    }
+
+    @Override
+    public @Nullable Object remove(@NotNull ContextKey key) {
+        AssertUtils.notNull(key, "无效的键");
+        Object old = removeSlot(key);
+        if (valueMap != null && valueMap.containsKey(key.getName())) {
+            old = valueMap.remove(key.getName());
+        }
+        return old;
     }
 
     @Override
     public <T> @Nullable T remove(@NotNull String key, @NotNull Class<T> valueType) {
         AssertUtils.notBlank(key, "无效的键");
         AssertUtils.notNull(valueType, "无效的值类型");
-        if (valueMap.containsKey(key)) {
-            if (valueType.isInstance(valueMap.get(key))) {
-                return valueType.cast(valueMap.remove(key));
-            }
+        Object valueObject = unmask(getMasked(key));
+        if (valueType.isInstance(valueObject)) {
+            return valueType.cast(remove(key));
         }
         return null;
     }
 
     @Override
     public @NotNull Set<String> getKeys() {
-        if (valueMap.isEmpty()) {
+        if (usedCount == 0 && (valueMap == null || valueMap.isEmpty())) {
             return Collections.emptySet();
         }
-        return new LinkedHashSet<>(valueMap.keySet());
+        Set<String> keySet = new LinkedHashSet<>();
+        for (int i = 0; i < usedCount; i++) {
+            keySet.add(keys[usedSlots[i]].getName());
+        }
+        if (valueMap != null) {
+            keySet.addAll(valueMap.keySet());
+        }
+        return keySet;
     }
 
     @Override
     public boolean hasKey(@NotNull String key) {
         AssertUtils.notBlank(key, "无效的键");
-        return valueMap.containsKey(key);
+        return getMasked(key) != null;
     }
 
     @Override
     public boolean hasValue(@NotNull String key) {
         AssertUtils.notBlank(key, "无效的键");
-        return valueMap.get(key) != null;
+        return unmask(getMasked(key)) != null;
+    }
+
+    @Override
+    public boolean hasValue(@NotNull ContextKey key) {
+        AssertUtils.notNull(key, "无效的键");
+        return unmask(getMasked(key)) != null;
     }
 
     @Override
     public @Nullable Object getValue(@NotNull String key) {
         AssertUtils.notBlank(key, "无效的键");
-        return valueMap.get(key);
+        return unmask(getMasked(key));
+    }
+
+    @Override
+    public @Nullable Object getValue(@NotNull ContextKey key) {
+        AssertUtils.notNull(key, "无效的键");
+        return unmask(getMasked(key));
     }
 
     @Override
     public <T> @Nullable T getValue(@NotNull String key, @NotNull Class<T> valueType) {
         AssertUtils.notBlank(key, "无效的键");
         AssertUtils.notNull(valueType, "无效的值类型");
-        if (valueMap.containsKey(key)) {
-            Object valueObject = valueMap.get(key);
-            if (valueType.isInstance(valueObject)) {
-                return valueType.cast(valueObject);
-            }
+        Object valueObject = unmask(getMasked(key));
+        if (valueType.isInstance(valueObject)) {
+            return valueType.cast(valueObject);
+        }
+        return null;
+    }
+
+    @Override
+    public <T> @Nullable T getValue(@NotNull ContextKey key, @NotNull Class<T> valueType) {
+        AssertUtils.notNull(key, "无效的键");
+        AssertUtils.notNull(valueType, "无效的值类型");
+        Object valueObject = unmask(getMasked(key));
+        if (valueType.isInstance(valueObject)) {
+            return valueType.cast(valueObject);
         }
         return null;
     }
@@ -113,12 +265,121 @@ public class CommandContextImpl implements CommandContext {
 
     @Override
     public void clear() {
-        valueMap.clear();
+        for (int i = 0; i < usedCount; i++) {
+            int slot = usedSlots[i];
+            values[slot] = null;
+            keys[slot] = null;
+        }
+        usedCount = 0;
+        if (valueMap != null) {
+            valueMap.clear();
+        }
+    }
+
+    @NotNull
+    private ArgumentMemo memo() {
+        String argument = arguments[depth];
+        if (memos.length < arguments.length) {
+            memos = Arrays.copyOf(memos, arguments.length);
+        }
+        ArgumentMemo memo = memos[depth];
+        if (memo == null) {
+            memo = new ArgumentMemo();
+            memos[depth] = memo;
+        }
+        // 以参数实例判断该位置的参数是否已变化
+        if (memo.argument != argument) {
+            memo.reset(argument);
+        }
+        return memo;
+    }
+
+    @Override
+    public @NotNull ArgumentKind getArgumentKind() {
+        ArgumentMemo memo = memo();
+        if (memo.kind == null) {
+            memo.kind = ArgumentKind.classify(memo.argument);
+        }
+        return memo.kind;
+    }
+
+    @Override
+    public @NotNull String getFoldedArgument(@NotNull CaseFolding caseFolding) {
+        AssertUtils.notNull(caseFolding, "无效的大小写折叠方式");
+        ArgumentMemo memo = memo();
+        String folded = memo.folded[caseFolding.ordinal()];
+        if (folded == null) {
+            folded = caseFolding.fold(memo.argument);
+            memo.folded[caseFolding.ordinal()] = folded;
+        }
+        return folded;
+    }
+
+    private int indexOf(@NotNull ArgumentMemo memo, @NotNull ArgumentConvertor<?> argumentConvertor) {
+        for (int i = 0; i < memo.size; i++) {
+            if (memo.convertors[i] == argumentConvertor) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> @Nullable R convertArgument(@NotNull ArgumentConvertor<R> argumentConvertor) throws Throwable {
+        AssertUtils.notNull(argumentConvertor, "无效的参数转换器");
+        ArgumentMemo memo = memo();
+        int index = indexOf(memo, argumentConvertor);
+        Object result = index < 0 ? null : memo.results[index];
+        if (result instanceof Failure) {
+            throw ((Failure) result).cause;
+        }
+        if (result != null && result != ArgumentConvertor.REJECTED) {
+            return (R) unmask(result);
+        }
+        // 未转换过，或经 tryConvert 转换失败而没有可抛出的异常
+        Object event = JfrEvents.beginConvert();
+        try {
+            result = mask(argumentConvertor.convert(this, memo.argument));
+        } catch (Throwable e) {
+            result = new Failure(e);
+        }
+        JfrEvents.endConvert(event, argumentConvertor, depth, result instanceof Failure ? JfrEvents.ERROR : JfrEvents.SUCCEEDED);
+        if (index < 0) {
+            memo.put(argumentConvertor, result);
+        } else {
+            memo.results[index] = result;
+        }
+        if (result instanceof Failure) {
+            throw ((Failure) result).cause;
+        }
+        return (R) unmask(result);
+    }
+
+    @Override
+    public @Nullable Object tryConvertArgument(@NotNull ArgumentConvertor<?> argumentConvertor) {
+        AssertUtils.notNull(argumentConvertor, "无效的参数转换器");
+        ArgumentMemo memo = memo();
+        int index = indexOf(memo, argumentConvertor);
+        if (index >= 0) {
+            Object result = memo.results[index];
+            return result instanceof Failure ? ArgumentConvertor.REJECTED : unmask(result);
+        }
+        Object event = JfrEvents.beginConvert();
+        Object result = argumentConvertor.tryConvert(this, memo.argument);
+        JfrEvents.endConvert(event, argumentConvertor, depth, result == ArgumentConvertor.REJECTED ? JfrEvents.REJECTED : JfrEvents.SUCCEEDED);
+        memo.put(argumentConvertor, result == ArgumentConvertor.REJECTED ? result : mask(result));
+        return result;
     }
 
     @Override
     public void reset() {
         clear();
+        for (ArgumentMemo memo : memos) {
+            if (memo != null) {
+                memo.reset(null);
+            }
+        }
         this.arguments = Command.EMPTY_ARGS;
         this.depth = -1;
     }
@@ -145,4 +406,41 @@ public class CommandContextImpl implements CommandContext {
         }
         this.depth = depth;
     }
+
+    private static final class ArgumentMemo {
+
+        private String argument = null;
+        private ArgumentKind kind = null;
+        private final String[] folded = new String[CASE_FOLDINGS];
+        private ArgumentConvertor<?>[] convertors = new ArgumentConvertor<?>[2];
+        private Object[] results = new Object[2];
+        private int size = 0;
+
+        private void reset(String argument) {
+            this.argument = argument;
+            this.kind = null;
+            Arrays.fill(folded, null);
+            Arrays.fill(convertors, 0, size, null);
+            Arrays.fill(results, 0, size, null);
+            this.size = 0;
+        }
+
+        private void put(ArgumentConvertor<?> convertor, Object result) {
+            if (size == convertors.length) {
+                convertors = Arrays.copyOf(convertors, size << 1);
+                results = Arrays.copyOf(results, size << 1);
+            }
+            convertors[size] = convertor;
+            results[size++] = result;
+        }
+    }
+
+    private static final class Failure {
+
+        private final Throwable cause;
+
+        private Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
 }
@@ -16,39 +16,39 @@
 
 package team.idealstate.hyper.command.impl;
 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import team.idealstate.hyper.command.api.Command;
-import team.idealstate.hyper.command.api.CommandContext;
 import team.idealstate.hyper.command.api.action.ActionInterceptor;
-import team.idealstate.hyper.command.api.action.CommandAction;
 import team.idealstate.hyper.command.api.argument.ArgumentAcceptor;
 import team.idealstate.hyper.command.api.complete.CommandCompleter;
 import team.idealstate.hyper.command.api.example.ExampleProvider;
 import team.idealstate.hyper.command.api.execute.CommandExecutor;
 import team.idealstate.hyper.command.impl.complete.CompleterUtils;
 import team.idealstate.hyper.commons.base.AssertUtils;
-import team.idealstate.hyper.commons.base.StringUtils;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
 /**
  * <p>CommandImpl</p>
  *
+ * <p>
+ * 可变的命令，用于构建命令树，它并不是并发安全的。构建完成后可通过 {@link #freeze()} 得到可在多线程间安全共享的不可变命令树。
+ * </p>
+ *
  * <p>创建于 2024/2/16 16:51</p>
  *
  * @author ketikai
  * @version 1.0.0
  * @since 1.0.0
  */
-public class CommandImpl implements Command {
+public class CommandImpl extends AbstractCommand {
 
-    private static final Logger logger = LogManager.getLogger(CommandImpl.class);
     private final String description;
     private final List<Command> subCommands = new LinkedList<>();
+    private volatile SubCommandIndex subCommandIndex = null;
     private Command parent = null;
     private boolean parentHasBeenSet = false;
     private ExampleProvider exampleProvider;
@@ -69,27 +69,6 @@ public class CommandImpl implements Command {
         }
     }
 
-    protected static boolean intercept(@NotNull Command command, @NotNull CommandContext context, @NotNull CommandAction action, String[] args) {
-        AssertUtils.notNull(command, "无效的命令");
-        AssertUtils.notNull(context, "无效的命令上下文");
-        AssertUtils.notNull(action, "无效的命令动作");
-        args = Command.promise(args);
-        boolean result = false;
-        int depth = command.getDepth();
-        if (args.length > depth) {
-            ActionInterceptor actionInterceptor = command.getActionInterceptor();
-            result = actionInterceptor != null && actionInterceptor.intercept(context, action);
-        }
-        if (result) {
-            logger.trace("[Command]({}) 拦截操作：{}，参数长度：{}，命令深度：{}",
-                    command.getDescription(), args[depth], args.length, depth);
-        } else {
-            logger.trace("[Command]({}) 放行操作：{}，参数长度：{}，命令深度：{}",
-                    command.getDescription(), args[depth], args.length, depth);
-        }
-        return result;
-    }
-
     @Override
     public @Nullable Command getParent() {
         return parent;
@@ -133,6 +112,7 @@ public class CommandImpl implements Command {
         AssertUtils.notNull(subCommand, "无效的子命令");
         subCommand.setParent(this);
         subCommands.add(subCommand);
+        this.subCommandIndex = null;
         return this;
     }
 
@@ -144,6 +124,7 @@ public class CommandImpl implements Command {
             subCommand.setParent(this);
             this.subCommands.add(subCommand);
         });
+        this.subCommandIndex = null;
         return this;
     }
 
@@ -180,6 +161,9 @@ public class CommandImpl implements Command {
     @Override
     public @NotNull Command argumentAcceptor(ArgumentAcceptor argumentAcceptor) {
         this.argumentAcceptor = argumentAcceptor;
+        if (parent instanceof CommandImpl) {
+            ((CommandImpl) parent).subCommandIndex = null;
+        }
         return this;
     }
 
@@ -208,99 +192,23 @@ public class CommandImpl implements Command {
     }
 
     @Override
-    public boolean acceptArgument(@NotNull CommandContext context, String[] args) {
-        AssertUtils.notNull(context, "无效的命令上下文");
-        args = Command.promise(args);
-        int depth = getDepth();
-        if (args.length > depth && !StringUtils.isBlank(args[depth])) {
-            context.setArguments(args);
-            context.setDepth(depth);
-            boolean result = argumentAcceptor != null && argumentAcceptor.acceptArgument(context);
-            if (result) {
-                logger.trace("[Command]({}) 参数命中：{}，参数长度：{}，命令深度：{}",
-                        getDescription(), args[depth], args.length, depth);
-                return true;
-            }
-            logger.trace("[Command]({}) 参数无效：{}，参数长度：{}，命令深度：{}",
-                    getDescription(), args[depth], args.length, depth);
-        }
-        return false;
-    }
-
-    @Override
-    public @Nullable Command accept(@NotNull CommandContext context, String[] args) {
-        AssertUtils.notNull(context, "无效的命令上下文");
-        args = Command.promise(args);
-        if (args.length > getDepth()) {
-            for (Command subCommand : subCommands) {
-                if (subCommand.acceptArgument(context, args)) {
-                    return subCommand;
-                }
-            }
+    @NotNull
+    SubCommandIndex getSubCommandIndex() {
+        SubCommandIndex subCommandIndex = this.subCommandIndex;
+        if (subCommandIndex == null) {
+            subCommandIndex = SubCommandIndex.of(subCommands);
+            this.subCommandIndex = subCommandIndex;
         }
-        return null;
+        return subCommandIndex;
     }
 
     @Override
-    public @Nullable List<String> complete(@NotNull CommandContext context, String[] args) {
-        AssertUtils.notNull(context, "无效的命令上下文");
-        args = Command.promise(args);
-        int depth = getDepth();
-        if (!isRoot()) {
-            depth += 1;
-        }
-        List<String> result = null;
-        if (args.length - 1 == depth) {
-            List<String> examples = null;
-            context.setArguments(args);
-            context.setDepth(depth);
-            for (Command subCommand : subCommands) {
-                ExampleProvider exampleProvider = subCommand.getExampleProvider();
-                if (exampleProvider == null) {
-                    continue;
-                }
-                if (intercept(subCommand, context, CommandAction.COMPLETE, args)) {
-                    continue;
-                }
-                List<String> subExamples = exampleProvider.provideExample(context);
-                AssertUtils.notNull(subExamples, "无效的示例列表");
-                if (subExamples.isEmpty()) {
-                    continue;
-                }
-                if (examples == null) {
-                    examples = new LinkedList<>();
-                }
-                CommandCompleter completer = subCommand.getCommandCompleter();
-                if (completer == null || !StringUtils.isBlank(args[depth])) {
-                    examples.addAll(subExamples);
-                    continue;
-                }
-                examples.addAll(completer.complete(context, subExamples));
-            }
-            if (examples != null) {
-                logger.trace("[Command]({}) 补全命令：{} 项", getDescription(), examples.size());
-                result = CompleterUtils.defaultCompleter().complete(context, examples);
-            }
-        }
-        return result;
+    public @NotNull List<Command> getSubCommands() {
+        return Collections.unmodifiableList(subCommands);
     }
 
     @Override
-    public @Nullable Boolean execute(@NotNull CommandContext context, String[] args) {
-        AssertUtils.notNull(context, "无效的命令上下文");
-        args = Command.promise(args);
-        int depth = getDepth();
-        if (args.length - 1 == depth) {
-            CommandExecutor executor = getCommandExecutor();
-            if (executor != null) {
-                context.setArguments(args);
-                context.setDepth(depth);
-                if (!intercept(this, context, CommandAction.EXECUTE, args)) {
-                    logger.trace("[Command]({}) 执行命令", getDescription());
-                    return executor.execute(context);
-                }
-            }
-        }
-        return null;
+    public @NotNull Command freeze() {
+        return FrozenCommand.freeze(this);
     }
 }
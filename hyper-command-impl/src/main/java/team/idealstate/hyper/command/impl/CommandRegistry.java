@@ -0,0 +1,523 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.action.ActionInterceptor;
+import team.idealstate.hyper.command.api.argument.ArgumentAcceptor;
+import team.idealstate.hyper.command.api.complete.CommandCompleter;
+import team.idealstate.hyper.command.api.example.ExampleProvider;
+import team.idealstate.hyper.command.api.execute.CommandExecutor;
+import team.idealstate.hyper.command.impl.example.ExampleUtils;
+import team.idealstate.hyper.command.spi.CommandRecorder;
+import team.idealstate.hyper.commons.base.AssertUtils;
+import team.idealstate.hyper.commons.base.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * <p>CommandRegistry</p>
+ *
+ * <p>
+ * 支持运行时注册、注销与替换子命令的根命令。当前的子命令集合以不可变快照的形式保存于原子引用中，
+ * 每次修改都复制出新的快照并以 CAS 替换，调度线程总是读取到某个完整的快照，无需加锁。
+ * 注册的命令会被冻结为 {@link FrozenCommand} 并挂载到注册表下，无法冻结的命令会被拒绝。
+ * </p>
+ *
+ * <p>
+ * 以标签注册的命令可通过标签、别名及带命名空间的 {@code namespace:label} 形式访问，
+ * 这些键在快照中指向同一个命令节点，首个参数只需一次散列查找即可定位；未命中时再按添加顺序匹配未以标签注册的命令。
+ * 不同命名空间下的同名标签或别名以先注册者优先，带命名空间的形式总是唯一的。
+ * 补全首个参数时，以标签注册的命令以其标签、别名及 {@code namespace:label} 代替自身的示例提供器，
+ * 它们同样受该命令的补全拦截器约束。
+ * </p>
+ *
+ * <p>
+ * 大量注册时应使用 {@link #update(Consumer)} 将多次修改合并为一次快照替换。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 15:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CommandRegistry extends AbstractCommand {
+
+    private final String description;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    public CommandRegistry(@NotNull String description) {
+        AssertUtils.notBlank(description, "无效的描述");
+        this.description = description;
+    }
+
+    /**
+     * 注册一个子命令，它将排在已注册的子命令之后。
+     *
+     * @return 实际挂载到注册表下的不可变命令
+     */
+    @NotNull
+    public Command register(@NotNull Command command) {
+        AssertUtils.notNull(command, "无效的子命令");
+        Command[] registered = new Command[1];
+        update(editor -> registered[0] = editor.register(command));
+        return registered[0];
+    }
+
+    /**
+     * 以标签注册一个子命令，命令自身的参数接收器不再参与首个参数的匹配。
+     *
+     * @param namespace 命名空间，为 null 时不提供 {@code namespace:label} 形式
+     * @return 实际挂载到注册表下的不可变命令
+     */
+    @NotNull
+    public Command register(@Nullable String namespace, @NotNull String label, @NotNull Command command, @NotNull String... aliases) {
+        AssertUtils.notNull(command, "无效的子命令");
+        Command[] registered = new Command[1];
+        update(editor -> registered[0] = editor.register(namespace, label, command, aliases));
+        return registered[0];
+    }
+
+    /**
+     * @return 与标签、别名或 {@code namespace:label} 对应的命令
+     */
+    @Nullable
+    public Command getCommand(@NotNull String label) {
+        AssertUtils.notNull(label, "无效的标签");
+        return snapshot.get().labels.get(label);
+    }
+
+    /**
+     * @return 所有可用的标签、别名及 {@code namespace:label}
+     */
+    @NotNull
+    public Set<String> getLabels() {
+        return Collections.unmodifiableSet(snapshot.get().labels.keySet());
+    }
+
+    /**
+     * @param command 注册时传入的命令或注册后得到的不可变命令
+     * @return 是否存在并已注销
+     */
+    public boolean unregister(@NotNull Command command) {
+        AssertUtils.notNull(command, "无效的子命令");
+        boolean[] unregistered = new boolean[1];
+        update(editor -> unregistered[0] = editor.unregister(command));
+        return unregistered[0];
+    }
+
+    /**
+     * 以 replacement 原位替换 command，若 command 不存在则注册 replacement。
+     *
+     * @return 实际挂载到注册表下的不可变命令
+     */
+    @NotNull
+    public Command replace(@NotNull Command command, @NotNull Command replacement) {
+        AssertUtils.notNull(command, "无效的子命令");
+        AssertUtils.notNull(replacement, "无效的子命令");
+        Command[] registered = new Command[1];
+        update(editor -> registered[0] = editor.replace(command, replacement));
+        return registered[0];
+    }
+
+    /**
+     * 在同一个快照上应用多次修改，最终只替换一次快照。
+     * 若与其他线程的修改发生冲突，action 将基于最新的快照重新执行，因此它不应包含其他副作用。
+     */
+    public void update(@NotNull Consumer<Editor> action) {
+        AssertUtils.notNull(action, "无效的修改操作");
+        while (true) {
+            Snapshot current = snapshot.get();
+            Editor editor = new Editor(this, current);
+            action.accept(editor);
+            if (!editor.modified) {
+                return;
+            }
+            if (snapshot.compareAndSet(current, editor.toSnapshot())) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRoot() {
+        return true;
+    }
+
+    @Override
+    public int getDepth() {
+        return 0;
+    }
+
+    @Override
+    public @NotNull String getDescription() {
+        return description;
+    }
+
+    @Override
+    public @NotNull Command subCommand(@NotNull Command subCommand) {
+        register(subCommand);
+        return this;
+    }
+
+    @Override
+    public @NotNull Command subCommands(@NotNull List<Command> subCommands) {
+        AssertUtils.notNull(subCommands, "无效的子命令列表");
+        update(editor -> subCommands.forEach(editor::register));
+        return this;
+    }
+
+    @Override
+    public @NotNull List<Command> getSubCommands() {
+        return snapshot.get().subCommandList;
+    }
+
+    @Override
+    public @Nullable Command accept(@NotNull CommandContext context, String[] args, int cursor) {
+        AssertUtils.notNull(context, "无效的命令上下文");
+        args = Command.promise(args);
+        if (cursor >= 0 && args.length > cursor && !StringUtils.isBlank(args[cursor])) {
+            Snapshot snapshot = this.snapshot.get();
+            Command command = snapshot.labels.get(args[cursor]);
+            if (command != null) {
+                context.setArguments(args);
+                context.setDepth(cursor);
+                // 以标签命中的命令不经过其参数接收器
+                CommandRecorder recorder = recorderOf(command);
+                if (recorder != null) {
+                    recorder.recordAccept(true);
+                }
+                return command;
+            }
+            return snapshot.subCommandIndex.accept(context, args, cursor);
+        }
+        return null;
+    }
+
+    @Override
+    public @NotNull List<String> suggest(@NotNull CommandContext context, String[] args, int cursor, int limit) {
+        AssertUtils.notNull(context, "无效的命令上下文");
+        args = Command.promise(args);
+        if (cursor < 0 || cursor >= args.length || StringUtils.isBlank(args[cursor])) {
+            return Collections.emptyList();
+        }
+        String argument = args[cursor];
+        return snapshot.get().suggestionIndex().search(argument, SubCommandIndex.maxDistanceOf(argument), limit);
+    }
+
+    @Override
+    @NotNull
+    SubCommandIndex getSubCommandIndex() {
+        return snapshot.get().subCommandIndex;
+    }
+
+    @Override
+    @Nullable
+    ExampleProvider exampleProviderOf(@NotNull Command subCommand) {
+        ExampleProvider labelProvider = snapshot.get().labelProviders().get(subCommand);
+        return labelProvider != null ? labelProvider : subCommand.getExampleProvider();
+    }
+
+    @Nullable
+    @Override
+    public ExampleProvider getExampleProvider() {
+        return null;
+    }
+
+    @Override
+    public @NotNull Command exampleProvider(ExampleProvider exampleProvider) {
+        throw new UnsupportedOperationException("命令注册表不支持示例提供者");
+    }
+
+    @Nullable
+    @Override
+    public ActionInterceptor getActionInterceptor() {
+        return null;
+    }
+
+    @Override
+    public @NotNull Command actionInterceptor(ActionInterceptor actionInterceptor) {
+        throw new UnsupportedOperationException("命令注册表不支持动作拦截器");
+    }
+
+    @Nullable
+    @Override
+    public ArgumentAcceptor getArgumentAcceptor() {
+        return null;
+    }
+
+    @Override
+    public @NotNull Command argumentAcceptor(ArgumentAcceptor argumentAcceptor) {
+        throw new UnsupportedOperationException("命令注册表不支持参数接收器");
+    }
+
+    @Nullable
+    @Override
+    public CommandCompleter getCommandCompleter() {
+        return null;
+    }
+
+    @Override
+    public @NotNull Command commandCompleter(CommandCompleter commandCompleter) {
+        throw new UnsupportedOperationException("命令注册表不支持命令补全器");
+    }
+
+    @Nullable
+    @Override
+    public CommandExecutor getCommandExecutor() {
+        return null;
+    }
+
+    @Override
+    public @NotNull Command commandExecutor(CommandExecutor commandExecutor) {
+        throw new UnsupportedOperationException("命令注册表不支持命令执行器");
+    }
+
+    @Override
+    public @Nullable Command getParent() {
+        return null;
+    }
+
+    @Override
+    public void setParent(Command parent) {
+        throw new IllegalStateException("命令注册表只能作为根命令");
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new Command[0], new Command[0], new String[0][]);
+
+        private final Command[] sources;
+        private final Command[] subCommands;
+        private final String[][] keys;
+        private final List<Command> subCommandList;
+        private final SubCommandIndex subCommandIndex;
+        private final Map<String, Command> labels;
+        private volatile SuggestionIndex suggestionIndex = null;
+        private volatile Map<Command, ExampleProvider> labelProviders = null;
+
+        private Snapshot(Command[] sources, Command[] subCommands, String[][] keys) {
+            this.sources = sources;
+            this.subCommands = subCommands;
+            this.keys = keys;
+            this.subCommandList = Collections.unmodifiableList(Arrays.asList(subCommands));
+            List<Command> unlabeled = new ArrayList<>(subCommands.length);
+            Map<String, Command> labels = new HashMap<>(Math.max(16, subCommands.length * 4));
+            for (int i = 0; i < subCommands.length; i++) {
+                if (keys[i] == null) {
+                    unlabeled.add(subCommands[i]);
+                    continue;
+                }
+                for (String key : keys[i]) {
+                    labels.putIfAbsent(key, subCommands[i]);
+                }
+            }
+            this.subCommandIndex = SubCommandIndex.of(unlabeled);
+            this.labels = labels;
+        }
+
+        /**
+         * 包括全部标签、别名及未以标签注册的字面量子命令，首次调用时建立，每个快照只建立一次
+         */
+        @NotNull
+        private SuggestionIndex suggestionIndex() {
+            SuggestionIndex suggestionIndex = this.suggestionIndex;
+            if (suggestionIndex == null) {
+                List<String> values = new ArrayList<>(labels.size() + subCommands.length);
+                for (String[] commandKeys : keys) {
+                    if (commandKeys != null) {
+                        values.addAll(Arrays.asList(commandKeys));
+                    }
+                }
+                values.addAll(subCommandIndex.getLiterals());
+                suggestionIndex = values.isEmpty() ? SuggestionIndex.EMPTY : new SuggestionIndex(values);
+                this.suggestionIndex = suggestionIndex;
+            }
+            return suggestionIndex;
+        }
+
+        /**
+         * 以标签注册的命令在补全首个参数时使用的示例提供器，只包括确实指向该命令的键，首次调用时建立
+         */
+        @NotNull
+        private Map<Command, ExampleProvider> labelProviders() {
+            Map<Command, ExampleProvider> labelProviders = this.labelProviders;
+            if (labelProviders == null) {
+                labelProviders = new IdentityHashMap<>();
+                for (int i = 0; i < subCommands.length; i++) {
+                    if (keys[i] == null) {
+                        continue;
+                    }
+                    List<String> commandKeys = new ArrayList<>(keys[i].length);
+                    for (String key : keys[i]) {
+                        if (labels.get(key) == subCommands[i]) {
+                            commandKeys.add(key);
+                        }
+                    }
+                    // 所有键都已被先注册者占用时不提供任何示例
+                    labelProviders.put(subCommands[i], ExampleUtils.collection(commandKeys));
+                }
+                this.labelProviders = labelProviders;
+            }
+            return labelProviders;
+        }
+    }
+
+    /**
+     * 基于某个快照的修改操作，仅在 {@link #update(Consumer)} 中有效。
+     */
+    public static final class Editor {
+
+        private final CommandRegistry registry;
+        private final List<Command> sources;
+        private final List<Command> subCommands;
+        private final List<String[]> keys;
+        /**
+         * 已被占用的 {@code namespace:label} 形式的键，使批量注册时的重复检查不必遍历所有键
+         */
+        private final Set<String> namespacedKeys = new HashSet<>();
+        private boolean modified = false;
+
+        private Editor(CommandRegistry registry, Snapshot snapshot) {
+            this.registry = registry;
+            this.sources = new ArrayList<>(Arrays.asList(snapshot.sources));
+            this.subCommands = new ArrayList<>(Arrays.asList(snapshot.subCommands));
+            this.keys = new ArrayList<>(Arrays.asList(snapshot.keys));
+            for (String[] commandKeys : snapshot.keys) {
+                addNamespacedKeys(commandKeys);
+            }
+        }
+
+        private void addNamespacedKeys(@Nullable String[] commandKeys) {
+            if (commandKeys != null) {
+                for (String key : commandKeys) {
+                    if (key.indexOf(':') >= 0) {
+                        namespacedKeys.add(key);
+                    }
+                }
+            }
+        }
+
+        private static void checkLabel(String label, String message) {
+            AssertUtils.notBlank(label, message);
+            if (label.indexOf(' ') >= 0 || label.indexOf(':') >= 0) {
+                throw new IllegalArgumentException(message + " " + label);
+            }
+        }
+
+        private int indexOf(Command command) {
+            for (int i = 0; i < subCommands.size(); i++) {
+                if (sources.get(i) == command || subCommands.get(i) == command) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @NotNull
+        public Command register(@NotNull Command command) {
+            AssertUtils.notNull(command, "无效的子命令");
+            Command frozen = FrozenCommand.freeze(command, registry, 0);
+            sources.add(command);
+            subCommands.add(frozen);
+            keys.add(null);
+            modified = true;
+            return frozen;
+        }
+
+        @NotNull
+        public Command register(@Nullable String namespace, @NotNull String label, @NotNull Command command, @NotNull String... aliases) {
+            AssertUtils.notNull(command, "无效的子命令");
+            AssertUtils.notNull(aliases, "无效的别名列表");
+            checkLabel(label, "无效的标签");
+            if (namespace != null) {
+                checkLabel(namespace, "无效的命名空间");
+            }
+            Set<String> labelKeys = new LinkedHashSet<>();
+            labelKeys.add(label);
+            for (String alias : aliases) {
+                checkLabel(alias, "无效的别名");
+                labelKeys.add(alias);
+            }
+            if (namespace != null) {
+                for (String key : labelKeys.toArray(new String[0])) {
+                    String namespacedKey = namespace + ":" + key;
+                    if (namespacedKeys.contains(namespacedKey)) {
+                        throw new IllegalArgumentException("重复的命令标签 " + namespacedKey);
+                    }
+                    labelKeys.add(namespacedKey);
+                }
+            }
+            Command frozen = FrozenCommand.freeze(command, registry, 0);
+            String[] commandKeys = labelKeys.toArray(new String[0]);
+            sources.add(command);
+            subCommands.add(frozen);
+            keys.add(commandKeys);
+            addNamespacedKeys(commandKeys);
+            modified = true;
+            return frozen;
+        }
+
+        public boolean unregister(@NotNull Command command) {
+            AssertUtils.notNull(command, "无效的子命令");
+            int index = indexOf(command);
+            if (index < 0) {
+                return false;
+            }
+            sources.remove(index);
+            subCommands.remove(index);
+            String[] commandKeys = keys.remove(index);
+            if (commandKeys != null) {
+                for (String key : commandKeys) {
+                    namespacedKeys.remove(key);
+                }
+            }
+            modified = true;
+            return true;
+        }
+
+        @NotNull
+        public Command replace(@NotNull Command command, @NotNull Command replacement) {
+            AssertUtils.notNull(command, "无效的子命令");
+            AssertUtils.notNull(replacement, "无效的子命令");
+            int index = indexOf(command);
+            if (index < 0) {
+                return register(replacement);
+            }
+            Command frozen = FrozenCommand.freeze(replacement, registry, 0);
+            sources.set(index, replacement);
+            subCommands.set(index, frozen);
+            modified = true;
+            return frozen;
+        }
+
+        @NotNull
+        public List<Command> getSubCommands() {
+            return Collections.unmodifiableList(subCommands);
+        }
+
+        private Snapshot toSnapshot() {
+            return new Snapshot(sources.toArray(new Command[0]), subCommands.toArray(new Command[0]), keys.toArray(new String[0][]));
+        }
+    }
+}
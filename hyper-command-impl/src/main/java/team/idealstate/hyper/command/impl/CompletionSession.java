@@ -0,0 +1,239 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.api.action.CommandAction;
+import team.idealstate.hyper.command.api.example.ExampleProvider;
+import team.idealstate.hyper.commons.base.AssertUtils;
+import team.idealstate.hyper.commons.base.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p>CompletionSession</p>
+ *
+ * <p>
+ * 为单个客户端逐键补全的会话，记录上一次补全时解析到的命令节点与候选项。
+ * 新的输入仅在最后一个参数上延长了上一次的前缀时，直接从上一次的候选项中筛选，不再从根命令重新解析路径、
+ * 也不再询问示例提供器；输入出现分歧时丢弃会话状态并完整补全一次。
+ * </p>
+ *
+ * <p>
+ * 完整补全经由 {@link FastCommand#complete(Command, String[])} 进行，因此同样经过已安装的命令调度器。
+ * 筛选前会重新询问各子命令的补全拦截器，拦截结果与上一次不同时（例如权限已被收回）改为完整补全；
+ * 筛选结果与完整补全的结果一致，但会话期间不会再次调用示例提供器，
+ * 示例随时间变化时（例如在线玩家列表）应在适当时机调用 {@link #invalidate()}。会话不是线程安全的。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 17:45</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class CompletionSession {
+
+    private final Command command;
+    private String[] lastArgs = null;
+    private Command lastCommand = null;
+    /**
+     * 为 null 时表示上一次的结果不能用于筛选
+     */
+    private List<String> lastCandidates = null;
+    private boolean lastSorted = false;
+    /**
+     * 上一次补全时各子命令是否被补全拦截器拦截
+     */
+    private boolean[] lastIntercepted = null;
+
+    public CompletionSession(@NotNull Command command) {
+        AssertUtils.notNull(command, "无效的命令");
+        this.command = command;
+    }
+
+    @NotNull
+    public Command getCommand() {
+        return command;
+    }
+
+    public void invalidate() {
+        this.lastArgs = null;
+        this.lastCommand = null;
+        this.lastCandidates = null;
+        this.lastSorted = false;
+        this.lastIntercepted = null;
+    }
+
+    @Nullable
+    public List<String> complete(String[] args) {
+        args = Command.promise(args);
+        if (isNarrowable(args)) {
+            CommandContext context = FastCommand.currentContext();
+            try {
+                int cursor = args.length - 1;
+                // 最后一个参数被子命令接受时，完整补全会继续向下解析；拦截结果变化时上一次的候选项不再可信
+                if (lastCommand.accept(context, args, cursor) == null
+                        && Arrays.equals(lastIntercepted, intercepted(context, lastCommand, args, cursor))) {
+                    List<String> candidates = lastSorted ?
+                            narrowSorted(lastCandidates, args[cursor]) : narrow(lastCandidates, args[cursor]);
+                    if (!candidates.isEmpty()) {
+                        // 筛选结果仍以新的前缀开头且保持原有顺序，无需再次检查
+                        this.lastArgs = args.clone();
+                        this.lastCandidates = candidates;
+                        return candidates;
+                    }
+                }
+            } finally {
+                context.reset();
+            }
+        }
+        return completeFully(args);
+    }
+
+    /**
+     * @return 各子命令在此次补全中是否被补全拦截器拦截，与 {@link AbstractCommand} 补全时询问拦截器的方式相同
+     */
+    @NotNull
+    private static boolean[] intercepted(@NotNull CommandContext context, @NotNull Command command, @NotNull String[] args, int cursor) {
+        List<Command> subCommands = command.getSubCommands();
+        boolean[] intercepted = new boolean[subCommands.size()];
+        context.setArguments(args);
+        context.setDepth(cursor);
+        for (int i = 0; i < intercepted.length; i++) {
+            Command subCommand = subCommands.get(i);
+            ExampleProvider exampleProvider = command instanceof AbstractCommand ?
+                    ((AbstractCommand) command).exampleProviderOf(subCommand) : subCommand.getExampleProvider();
+            intercepted[i] = exampleProvider != null
+                    && AbstractCommand.intercept(subCommand, context, CommandAction.COMPLETE, args, cursor);
+        }
+        return intercepted;
+    }
+
+    private boolean isNarrowable(@NotNull String[] args) {
+        String[] lastArgs = this.lastArgs;
+        if (lastCandidates == null || lastArgs.length != args.length) {
+            return false;
+        }
+        int last = args.length - 1;
+        for (int i = 0; i < last; i++) {
+            if (!lastArgs[i].equals(args[i])) {
+                return false;
+            }
+        }
+        return args[last].startsWith(lastArgs[last]);
+    }
+
+    @NotNull
+    private static List<String> narrow(@NotNull List<String> candidates, @NotNull String prefix) {
+        List<String> result = new ArrayList<>(candidates.size());
+        for (String candidate : candidates) {
+            if (candidate.startsWith(prefix)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 有序候选项中以 prefix 开头的部分是连续的，二分查找其范围后返回视图
+     */
+    @NotNull
+    private static List<String> narrowSorted(@NotNull List<String> candidates, @NotNull String prefix) {
+        int low = 0;
+        int high = candidates.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (candidates.get(middle).compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int from = low;
+        high = candidates.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (candidates.get(middle).startsWith(prefix)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return candidates.subList(from, low);
+    }
+
+    @Nullable
+    private List<String> completeFully(@NotNull String[] args) {
+        invalidate();
+        List<String> result = FastCommand.complete(command, args);
+        if (result == null || result.isEmpty()) {
+            return result;
+        }
+        // 找到补全最后一个参数的命令节点，以便之后在其候选项中筛选
+        CommandContext context = FastCommand.currentContext();
+        try {
+            Command current = command;
+            int last = args.length - 1;
+            int cursor = current.isRoot() ? 0 : current.getDepth() + 1;
+            for (; cursor < last; cursor++) {
+                current = current.accept(context, args, cursor);
+                if (current == null) {
+                    return result;
+                }
+            }
+            if (cursor == last && current.accept(context, args, cursor) == null) {
+                remember(args, current, result, intercepted(context, current, args, cursor));
+            }
+        } finally {
+            context.reset();
+        }
+        return result;
+    }
+
+    private void remember(@NotNull String[] args, @NotNull Command command, @NotNull List<String> candidates,
+                          @NotNull boolean[] intercepted) {
+        // 参数为空白时补全器会改写示例，默认补全器在没有前缀匹配项时会退回其他结果，这些结果都不能继续按前缀筛选
+        String prefix = args[args.length - 1];
+        if (StringUtils.isBlank(prefix)) {
+            return;
+        }
+        boolean sorted = candidates instanceof RandomAccess;
+        String previous = null;
+        for (String candidate : candidates) {
+            if (candidate == null || !candidate.startsWith(prefix)) {
+                return;
+            }
+            if (previous != null && previous.compareTo(candidate) > 0) {
+                sorted = false;
+            }
+            previous = candidate;
+        }
+        this.lastArgs = args.clone();
+        this.lastCommand = command;
+        this.lastCandidates = candidates;
+        this.lastSorted = sorted;
+        this.lastIntercepted = intercepted;
+    }
+}
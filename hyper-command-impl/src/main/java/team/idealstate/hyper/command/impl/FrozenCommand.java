@@ -0,0 +1,254 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.action.ActionInterceptor;
+import team.idealstate.hyper.command.api.argument.ArgumentAcceptor;
+import team.idealstate.hyper.command.api.complete.CommandCompleter;
+import team.idealstate.hyper.command.api.example.ExampleProvider;
+import team.idealstate.hyper.command.api.execute.CommandExecutor;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>FrozenCommand</p>
+ *
+ * <p>
+ * 不可变的命令，所有字段均为 final 且子命令以数组保存，整棵树在根节点构造完成后即可安全发布，
+ * 多个线程可以不加锁地同时通过它调度。命令深度在构造时确定，不再沿父命令链推算。
+ * </p>
+ *
+ * <p>
+ * 冻结时仅复制通过各 getter 暴露的配置，因此只接受由 {@link CommandImpl} 与 {@link FrozenCommand} 组成的命令树；
+ * 直接实现 {@link Command} 的命令（其子命令与调度方法无法经由 getter 完整复制）会被拒绝，
+ * 覆盖了调度方法的 {@link CommandImpl} 子类将失去其自定义行为。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 15:10</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FrozenCommand extends AbstractCommand {
+
+    private final String description;
+    private final Command parent;
+    private final int depth;
+    private final List<Command> subCommands;
+    private final SubCommandIndex subCommandIndex;
+    private final ExampleProvider exampleProvider;
+    private final ActionInterceptor actionInterceptor;
+    private final ArgumentAcceptor argumentAcceptor;
+    private final CommandCompleter commandCompleter;
+    private final CommandExecutor commandExecutor;
+
+    private FrozenCommand(@NotNull Command source, @Nullable Command parent, int depth) {
+        AssertUtils.isTrue(source instanceof CommandImpl || source instanceof FrozenCommand,
+                "无法冻结的命令 '" + source.getDescription() + "'，仅支持 CommandImpl 与已冻结的命令");
+        this.description = source.getDescription();
+        this.parent = parent;
+        this.depth = depth;
+        this.exampleProvider = source.getExampleProvider();
+        this.actionInterceptor = source.getActionInterceptor();
+        this.argumentAcceptor = source.getArgumentAcceptor();
+        this.commandCompleter = source.getCommandCompleter();
+        this.commandExecutor = source.getCommandExecutor();
+        List<Command> sourceSubCommands = source.getSubCommands();
+        Command[] subCommands = new Command[sourceSubCommands.size()];
+        int subDepth = parent == null ? 0 : depth + 1;
+        for (int i = 0; i < subCommands.length; i++) {
+            subCommands[i] = new FrozenCommand(sourceSubCommands.get(i), this, subDepth);
+        }
+        this.subCommands = Collections.unmodifiableList(Arrays.asList(subCommands));
+        this.subCommandIndex = SubCommandIndex.of(this.subCommands);
+    }
+
+    /**
+     * 冻结 command 所在的命令树并返回其中与 command 对应的节点。
+     * <p>
+     * command 的祖先中的 {@link CommandImpl} 会一并冻结，冻结结果的父命令链因此不会指向可变的命令；
+     * 冻结从最上层的 {@link CommandImpl} 祖先开始，它原有的父命令（如 {@link CommandRegistry}）与深度保持不变。
+     * </p>
+     */
+    @NotNull
+    public static FrozenCommand freeze(@NotNull Command command) {
+        AssertUtils.notNull(command, "无效的命令");
+        if (command instanceof FrozenCommand) {
+            return (FrozenCommand) command;
+        }
+        List<Command> path = new ArrayList<>();
+        Command top = command;
+        while (top.getParent() instanceof CommandImpl) {
+            path.add(top);
+            top = top.getParent();
+        }
+        Command frozen = new FrozenCommand(top, top.getParent(), top.getDepth());
+        Command source = top;
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Command child = path.get(i);
+            frozen = frozen.getSubCommands().get(indexOf(source.getSubCommands(), child));
+            source = child;
+        }
+        return (FrozenCommand) frozen;
+    }
+
+    private static int indexOf(@NotNull List<Command> subCommands, @NotNull Command subCommand) {
+        for (int i = 0; i < subCommands.size(); i++) {
+            if (subCommands.get(i) == subCommand) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("命令 '" + subCommand.getDescription() + "' 不在其父命令的子命令中");
+    }
+
+    /**
+     * 冻结以 command 为根的子树，并将冻结结果挂载到指定的父命令下（父命令不会因此得知该子命令）。
+     * 不论 command 原本位于何处，冻结结果都脱离其原有的父命令。
+     *
+     * @param parent 冻结结果的父命令，为 null 时冻结结果为根命令，不能是可变的 {@link CommandImpl}
+     * @param depth  冻结结果的深度，应与其在父命令下的位置一致
+     */
+    @NotNull
+    public static FrozenCommand freeze(@NotNull Command command, @Nullable Command parent, int depth) {
+        AssertUtils.notNull(command, "无效的命令");
+        AssertUtils.isTrue(!(parent instanceof CommandImpl), "冻结结果的父命令不能是可变的命令");
+        return new FrozenCommand(command, parent, depth);
+    }
+
+    private static IllegalStateException frozen() {
+        return new IllegalStateException("已冻结的命令不允许修改");
+    }
+
+    @Override
+    public boolean isRoot() {
+        return parent == null;
+    }
+
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public @NotNull String getDescription() {
+        return description;
+    }
+
+    @Override
+    public @NotNull Command subCommand(@NotNull Command subCommand) {
+        throw frozen();
+    }
+
+    @Override
+    public @NotNull Command subCommands(@NotNull List<Command> subCommands) {
+        throw frozen();
+    }
+
+    @Override
+    public @NotNull List<Command> getSubCommands() {
+        return subCommands;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return true;
+    }
+
+    @Override
+    public @NotNull Command freeze() {
+        return this;
+    }
+
+    @Nullable
+    @Override
+    public ExampleProvider getExampleProvider() {
+        return exampleProvider;
+    }
+
+    @Override
+    public @NotNull Command exampleProvider(ExampleProvider exampleProvider) {
+        throw frozen();
+    }
+
+    @Nullable
+    @Override
+    public ActionInterceptor getActionInterceptor() {
+        return actionInterceptor;
+    }
+
+    @Override
+    public @NotNull Command actionInterceptor(ActionInterceptor actionInterceptor) {
+        throw frozen();
+    }
+
+    @Nullable
+    @Override
+    public ArgumentAcceptor getArgumentAcceptor() {
+        return argumentAcceptor;
+    }
+
+    @Override
+    public @NotNull Command argumentAcceptor(ArgumentAcceptor argumentAcceptor) {
+        throw frozen();
+    }
+
+    @Nullable
+    @Override
+    public CommandCompleter getCommandCompleter() {
+        return commandCompleter;
+    }
+
+    @Override
+    public @NotNull Command commandCompleter(CommandCompleter commandCompleter) {
+        throw frozen();
+    }
+
+    @Nullable
+    @Override
+    public CommandExecutor getCommandExecutor() {
+        return commandExecutor;
+    }
+
+    @Override
+    public @NotNull Command commandExecutor(CommandExecutor commandExecutor) {
+        throw frozen();
+    }
+
+    @Override
+    @NotNull
+    SubCommandIndex getSubCommandIndex() {
+        return subCommandIndex;
+    }
+
+    @Override
+    public @Nullable Command getParent() {
+        return parent;
+    }
+
+    @Override
+    public void setParent(Command parent) {
+        throw frozen();
+    }
+}
@@ -0,0 +1,573 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.command.api.argument.CaseFolding;
+import team.idealstate.hyper.command.impl.complete.FuzzyIndex;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>StringIndex</p>
+ *
+ * <p>
+ * 不可变的字符串列表，按首次出现的顺序保存去重后的非 null 字符串，并针对 {@link #contains(Object)} 建立索引。
+ * 少量字符串时直接逐个比较；其余情况下构建最小完美散列，索引只占用一个与字符串数量相同的 int 数组
+ * 和一个约为其一半大小的位移数组，每次查找只需比较一次字符串。
+ * </p>
+ *
+ * <p>
+ * 前缀查询使用首次查询时建立的有序下标数组，以二分查找确定匹配范围，再将范围内的下标恢复为原有顺序，
+ * 因此与逐个过滤普通列表的结果顺序相同。限制数量的前缀查询借助有序下标数组上的区间最小值线段树，
+ * 按原有顺序依次取出范围内最靠前的下标，耗时只与 limit 有关，与匹配的字符串数量无关。
+ * 参数接收器与示例提供器可共用同一个实例，从而只保存一份字符串。
+ * 忽略大小写的前缀查询使用首次以某种折叠方式查询时建立的折叠形式，之后不再重复折叠。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 17:20</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class StringIndex extends AbstractList<String> implements RandomAccess {
+
+    public static final StringIndex EMPTY = new StringIndex(new String[0]);
+    private static final int LINEAR_THRESHOLD = 8;
+    private static final int BUCKET_LOAD = 2;
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+
+    private final String[] strings;
+    /**
+     * 为 null 时逐个比较
+     */
+    private final int[] displacements;
+    private final int[] slots;
+    /**
+     * 仅在无法构建完美散列时使用
+     */
+    private final Set<String> fallback;
+    private volatile int[] sorted = null;
+    /**
+     * 有序下标数组上的区间最小值线段树，节点保存其区间内原有位置最靠前的元素在有序下标数组中的位置
+     */
+    private volatile int[] minima = null;
+    private volatile FuzzyIndex fuzzyIndex = null;
+    private final AtomicReferenceArray<String[]> foldedStrings = new AtomicReferenceArray<>(CaseFolding.values().length);
+
+    private StringIndex(@NotNull String[] strings) {
+        this.strings = strings;
+        if (strings.length <= LINEAR_THRESHOLD) {
+            this.displacements = null;
+            this.slots = null;
+            this.fallback = null;
+            return;
+        }
+        int[] slots = new int[strings.length];
+        int[] displacements = new int[(strings.length + BUCKET_LOAD - 1) / BUCKET_LOAD];
+        if (build(strings, displacements, slots)) {
+            this.displacements = displacements;
+            this.slots = slots;
+            this.fallback = null;
+        } else {
+            this.displacements = null;
+            this.slots = null;
+            this.fallback = new HashSet<>(Arrays.asList(strings));
+        }
+    }
+
+    @NotNull
+    public static StringIndex of(Collection<String> strings) {
+        if (strings instanceof StringIndex) {
+            return (StringIndex) strings;
+        }
+        if (strings == null || strings.isEmpty()) {
+            return EMPTY;
+        }
+        Set<String> seen = new HashSet<>(Math.max(16, strings.size() * 4 / 3 + 1));
+        List<String> distinct = new ArrayList<>(strings.size());
+        for (String string : strings) {
+            if (string != null && seen.add(string)) {
+                distinct.add(string);
+            }
+        }
+        return distinct.isEmpty() ? EMPTY : new StringIndex(distinct.toArray(new String[0]));
+    }
+
+    @NotNull
+    public static StringIndex of(String... strings) {
+        return strings == null ? EMPTY : of(Arrays.asList(strings));
+    }
+
+    /**
+     * 以“散列-位移”算法构建：先按桶的大小降序为每个桶寻找一个使桶内字符串全部落入空槽的位移，
+     * 只含一个字符串的桶直接占用剩余的空槽，并以负数记录槽位。
+     */
+    private static boolean build(String[] strings, int[] displacements, int[] slots) {
+        int n = strings.length;
+        int bucketCount = displacements.length;
+        int[] bucketSizes = new int[bucketCount];
+        int[] bucketOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            bucketOf[i] = bucket(strings[i], bucketCount);
+            bucketSizes[bucketOf[i]]++;
+        }
+        // 以计数排序将字符串按桶归类，桶按大小降序处理
+        int[] bucketStarts = new int[bucketCount + 1];
+        for (int b = 0; b < bucketCount; b++) {
+            bucketStarts[b + 1] = bucketStarts[b] + bucketSizes[b];
+        }
+        int[] members = new int[n];
+        int[] fill = Arrays.copyOf(bucketStarts, bucketCount);
+        for (int i = 0; i < n; i++) {
+            members[fill[bucketOf[i]]++] = i;
+        }
+        int maxBucketSize = 0;
+        for (int size : bucketSizes) {
+            maxBucketSize = Math.max(maxBucketSize, size);
+        }
+        int[] sizeStarts = new int[maxBucketSize + 2];
+        for (int size : bucketSizes) {
+            sizeStarts[maxBucketSize - size + 1]++;
+        }
+        for (int i = 1; i < sizeStarts.length; i++) {
+            sizeStarts[i] += sizeStarts[i - 1];
+        }
+        int[] order = new int[bucketCount];
+        for (int b = 0; b < bucketCount; b++) {
+            order[sizeStarts[maxBucketSize - bucketSizes[b]]++] = b;
+        }
+
+        boolean[] occupied = new boolean[n];
+        int[] candidates = new int[maxBucketSize];
+        int k = 0;
+        for (; k < bucketCount; k++) {
+            int b = order[k];
+            int size = bucketSizes[b];
+            if (size <= 1) {
+                break;
+            }
+            int start = bucketStarts[b];
+            boolean placed = false;
+            for (int d = 1; d < MAX_DISPLACEMENT && !placed; d++) {
+                placed = true;
+                for (int j = 0; j < size; j++) {
+                    int slot = slot(strings[members[start + j]], d, n);
+                    if (occupied[slot] || contains(candidates, j, slot)) {
+                        placed = false;
+                        break;
+                    }
+                    candidates[j] = slot;
+                }
+                if (placed) {
+                    for (int j = 0; j < size; j++) {
+                        occupied[candidates[j]] = true;
+                        slots[candidates[j]] = members[start + j];
+                    }
+                    displacements[b] = d;
+                }
+            }
+            if (!placed) {
+                return false;
+            }
+        }
+        int free = 0;
+        for (; k < bucketCount; k++) {
+            int b = order[k];
+            if (bucketSizes[b] == 0) {
+                break;
+            }
+            while (occupied[free]) {
+                free++;
+            }
+            occupied[free] = true;
+            slots[free] = members[bucketStarts[b]];
+            displacements[b] = -free - 1;
+        }
+        return true;
+    }
+
+    private static boolean contains(int[] array, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (array[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int bucket(String string, int bucketCount) {
+        int hash = string.hashCode() * 0x9E3779B9;
+        return ((hash ^ (hash >>> 16)) & 0x7FFFFFFF) % bucketCount;
+    }
+
+    /**
+     * 以位移为种子逐字符散列，散列值相同的不同字符串也能被分开
+     */
+    private static int slot(String string, int displacement, int n) {
+        int hash = displacement * 0x01000193;
+        for (int i = 0; i < string.length(); i++) {
+            hash = (hash ^ string.charAt(i)) * 0x01000193;
+        }
+        hash ^= hash >>> 15;
+        return (hash & 0x7FFFFFFF) % n;
+    }
+
+    public boolean contains(String string) {
+        return find(string) >= 0;
+    }
+
+    private int find(String string) {
+        if (string == null) {
+            return -1;
+        }
+        if (displacements != null) {
+            int displacement = displacements[bucket(string, displacements.length)];
+            int slot = displacement < 0 ? -displacement - 1 : slot(string, displacement, strings.length);
+            int index = slots[slot];
+            return strings[index].equals(string) ? index : -1;
+        }
+        if (fallback != null && !fallback.contains(string)) {
+            return -1;
+        }
+        for (int i = 0; i < strings.length; i++) {
+            if (strings[i].equals(string)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof String && find((String) o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof String ? find((String) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    /**
+     * @return 以 prefix 开头的字符串按原有顺序排列的只读视图，prefix 为空时返回自身
+     */
+    @NotNull
+    public List<String> startsWith(@NotNull String prefix) {
+        return startsWith(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param limit 最多返回的字符串数量
+     * @return 以 prefix 开头的前 limit 个字符串按原有顺序排列的只读视图
+     */
+    @NotNull
+    public List<String> startsWith(@NotNull String prefix, int limit) {
+        AssertUtils.notNull(prefix, "无效的前缀");
+        AssertUtils.isTrue(limit >= 0, "数量上限不能小于 0");
+        if (prefix.isEmpty()) {
+            return limit >= strings.length ? this : subList(0, limit);
+        }
+        int[] sorted = sorted();
+        // 以 prefix 开头的字符串在有序数组中是连续的，且排在所有不小于 prefix 的字符串之前
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (strings[sorted[middle]].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int from = low;
+        high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (strings[sorted[middle]].startsWith(prefix)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int matched = low - from;
+        if (matched == 0 || limit == 0) {
+            return Collections.emptyList();
+        }
+        if (matched == strings.length) {
+            return limit >= strings.length ? this : subList(0, limit);
+        }
+        if (limit >= matched) {
+            // 需要返回全部匹配项时直接恢复为原有顺序
+            int[] positions = Arrays.copyOfRange(sorted, from, low);
+            Arrays.sort(positions);
+            return new Slice(strings, positions, matched);
+        }
+        return new Slice(strings, firstPositions(sorted, minima(sorted), from, low, limit), limit);
+    }
+
+    /**
+     * 依次取出有序下标数组 [from, to) 范围内原有位置最靠前的 count 个元素：堆中的每个区间以其最小值为键，
+     * 取出一个区间的最小值后，将其两侧的剩余部分放回堆中。
+     *
+     * @return 按原有顺序排列的 count 个原有位置
+     */
+    @NotNull
+    private static int[] firstPositions(@NotNull int[] sorted, @NotNull int[] minima, int from, int to, int count) {
+        int[] positions = new int[count];
+        int capacity = count * 2 + 1;
+        int[] lows = new int[capacity];
+        int[] highs = new int[capacity];
+        int[] minimums = new int[capacity];
+        // 高 32 位为区间最小值对应的原有位置，低 32 位为区间的编号
+        long[] heap = new long[count + 1];
+        int heapSize = 0;
+        int intervals = 0;
+        lows[0] = from;
+        highs[0] = to;
+        minimums[0] = argmin(sorted, minima, from, to);
+        heap[heapSize++] = (long) sorted[minimums[0]] << 32;
+        intervals++;
+        for (int i = 0; i < count; i++) {
+            int interval = (int) heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize);
+            int minimum = minimums[interval];
+            positions[i] = sorted[minimum];
+            if (i + 1 == count) {
+                break;
+            }
+            int low = lows[interval];
+            int high = highs[interval];
+            if (low < minimum) {
+                lows[intervals] = low;
+                highs[intervals] = minimum;
+                minimums[intervals] = argmin(sorted, minima, low, minimum);
+                heapSize = siftUp(heap, heapSize, (long) sorted[minimums[intervals]] << 32 | intervals);
+                intervals++;
+            }
+            if (minimum + 1 < high) {
+                lows[intervals] = minimum + 1;
+                highs[intervals] = high;
+                minimums[intervals] = argmin(sorted, minima, minimum + 1, high);
+                heapSize = siftUp(heap, heapSize, (long) sorted[minimums[intervals]] << 32 | intervals);
+                intervals++;
+            }
+        }
+        return positions;
+    }
+
+    private static int siftUp(@NotNull long[] heap, int heapSize, long entry) {
+        int i = heapSize;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= entry) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = entry;
+        return heapSize + 1;
+    }
+
+    private static void siftDown(@NotNull long[] heap, int heapSize) {
+        if (heapSize == 0) {
+            return;
+        }
+        long entry = heap[0];
+        int i = 0;
+        int half = heapSize >>> 1;
+        while (i < half) {
+            int child = (i << 1) + 1;
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (entry <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = entry;
+    }
+
+    /**
+     * @return 有序下标数组 [from, to) 范围内原有位置最靠前的元素在有序下标数组中的位置
+     */
+    private static int argmin(@NotNull int[] sorted, @NotNull int[] minima, int from, int to) {
+        int n = sorted.length;
+        int result = -1;
+        for (int low = from + n, high = to + n; low < high; low >>>= 1, high >>>= 1) {
+            if ((low & 1) == 1) {
+                result = earlier(sorted, result, minima[low++]);
+            }
+            if ((high & 1) == 1) {
+                result = earlier(sorted, result, minima[--high]);
+            }
+        }
+        return result;
+    }
+
+    private static int earlier(@NotNull int[] sorted, int left, int right) {
+        if (left < 0) {
+            return right;
+        }
+        return sorted[left] <= sorted[right] ? left : right;
+    }
+
+    /**
+     * @param foldedPrefix 已以 caseFolding 折叠的前缀
+     * @return 折叠后以 foldedPrefix 开头的字符串，按原有顺序排列，prefix 为空时返回自身
+     */
+    @NotNull
+    public List<String> startsWithIgnoreCase(@NotNull String foldedPrefix, @NotNull CaseFolding caseFolding) {
+        AssertUtils.notNull(foldedPrefix, "无效的前缀");
+        AssertUtils.notNull(caseFolding, "无效的大小写折叠方式");
+        if (foldedPrefix.isEmpty()) {
+            return this;
+        }
+        String[] folded = folded(caseFolding);
+        List<String> result = null;
+        for (int i = 0; i < folded.length; i++) {
+            if (folded[i].startsWith(foldedPrefix)) {
+                if (result == null) {
+                    result = new ArrayList<>();
+                }
+                result.add(strings[i]);
+            }
+        }
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    @NotNull
+    private String[] folded(@NotNull CaseFolding caseFolding) {
+        String[] folded = foldedStrings.get(caseFolding.ordinal());
+        if (folded == null) {
+            folded = new String[strings.length];
+            for (int i = 0; i < strings.length; i++) {
+                folded[i] = caseFolding.fold(strings[i]);
+            }
+            foldedStrings.set(caseFolding.ordinal(), folded);
+        }
+        return folded;
+    }
+
+    /**
+     * @return 首次调用时建立的模糊索引
+     */
+    @NotNull
+    public FuzzyIndex getFuzzyIndex() {
+        FuzzyIndex fuzzyIndex = this.fuzzyIndex;
+        if (fuzzyIndex == null) {
+            fuzzyIndex = FuzzyIndex.of(this);
+            this.fuzzyIndex = fuzzyIndex;
+        }
+        return fuzzyIndex;
+    }
+
+    @NotNull
+    private int[] sorted() {
+        int[] sorted = this.sorted;
+        if (sorted == null) {
+            Integer[] order = new Integer[strings.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (left, right) -> strings[left].compareTo(strings[right]));
+            sorted = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sorted[i] = order[i];
+            }
+            this.sorted = sorted;
+        }
+        return sorted;
+    }
+
+    @NotNull
+    private int[] minima(@NotNull int[] sorted) {
+        int[] minima = this.minima;
+        if (minima == null) {
+            int n = sorted.length;
+            minima = new int[n * 2];
+            for (int i = 0; i < n; i++) {
+                minima[n + i] = i;
+            }
+            for (int i = n - 1; i > 0; i--) {
+                minima[i] = earlier(sorted, minima[i << 1], minima[(i << 1) + 1]);
+            }
+            this.minima = minima;
+        }
+        return minima;
+    }
+
+    @Override
+    public String get(int index) {
+        return strings[index];
+    }
+
+    @Override
+    public int size() {
+        return strings.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return strings.clone();
+    }
+
+    private static final class Slice extends AbstractList<String> implements RandomAccess {
+
+        private final String[] strings;
+        private final int[] positions;
+        private final int size;
+
+        private Slice(String[] strings, int[] positions, int size) {
+            this.strings = strings;
+            this.positions = positions;
+            this.size = size;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return strings[positions[index]];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
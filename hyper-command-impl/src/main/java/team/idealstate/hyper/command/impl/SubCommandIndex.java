@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.argument.ArgumentAcceptor;
+import team.idealstate.hyper.command.api.argument.CaseFolding;
+import team.idealstate.hyper.command.impl.argument.IgnoreCaseLiteralAcceptor;
+import team.idealstate.hyper.command.impl.argument.LiteralAcceptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>SubCommandIndex</p>
+ *
+ * <p>
+ * 子命令的不可变索引。参数接收器为 {@link LiteralAcceptor} 的子命令以字面量为键存放于散列表中，
+ * 参数接收器为 {@link IgnoreCaseLiteralAcceptor} 的子命令按大小写折叠方式分组，以折叠后的字面量为键存放，
+ * 其余子命令按添加顺序逐个尝试，三者合并后仍保持“先添加者优先”的匹配顺序。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 9:20</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class SubCommandIndex {
+
+    static final SubCommandIndex EMPTY = new SubCommandIndex(new Command[0]);
+
+    private final Command[] subCommands;
+    private final Map<String, Integer> literals;
+    private final CaseFolding[] caseFoldings;
+    private final Map<String, Integer>[] foldedLiterals;
+    private final int[] wildcards;
+    private final List<String> literalValues;
+    private volatile SuggestionIndex suggestionIndex = null;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private SubCommandIndex(@NotNull Command[] subCommands) {
+        this.subCommands = subCommands;
+        Map<String, Integer> literals = new HashMap<>(Math.max(16, subCommands.length * 2));
+        Map<CaseFolding, Map<String, Integer>> foldedLiterals = new EnumMap<>(CaseFolding.class);
+        List<String> literalValues = new ArrayList<>();
+        int[] wildcards = new int[subCommands.length];
+        int wildcardCount = 0;
+        for (int i = 0; i < subCommands.length; i++) {
+            ArgumentAcceptor acceptor = subCommands[i].getArgumentAcceptor();
+            // 仅 CommandImpl 会在参数接收器变更时通知父命令重建索引，FrozenCommand 的参数接收器不可变
+            if (subCommands[i] instanceof AbstractCommand && acceptor instanceof LiteralAcceptor) {
+                literals.putIfAbsent(((LiteralAcceptor) acceptor).getLiteral(), i);
+                literalValues.add(((LiteralAcceptor) acceptor).getLiteral());
+            } else if (subCommands[i] instanceof AbstractCommand && acceptor instanceof IgnoreCaseLiteralAcceptor) {
+                IgnoreCaseLiteralAcceptor ignoreCase = (IgnoreCaseLiteralAcceptor) acceptor;
+                foldedLiterals.computeIfAbsent(ignoreCase.getCaseFolding(), (key) -> new HashMap<>())
+                        .putIfAbsent(ignoreCase.getFoldedLiteral(), i);
+                literalValues.add(ignoreCase.getLiteral());
+            } else {
+                wildcards[wildcardCount++] = i;
+            }
+        }
+        this.literals = literals;
+        this.caseFoldings = foldedLiterals.keySet().toArray(new CaseFolding[0]);
+        this.foldedLiterals = foldedLiterals.values().toArray(new Map[0]);
+        this.literalValues = Collections.unmodifiableList(literalValues);
+        this.wildcards = wildcardCount == wildcards.length ? wildcards : Arrays.copyOf(wildcards, wildcardCount);
+    }
+
+    @NotNull
+    static SubCommandIndex of(@NotNull Collection<Command> subCommands) {
+        if (subCommands.isEmpty()) {
+            return EMPTY;
+        }
+        return new SubCommandIndex(subCommands.toArray(new Command[0]));
+    }
+
+    /**
+     * @return 按添加顺序排列的字面量子命令的字面量
+     */
+    @NotNull
+    List<String> getLiterals() {
+        return literalValues;
+    }
+
+    /**
+     * @return 与参数相近的至多 limit 个字面量，首次调用时建立索引，此后直至子命令变更前一直复用
+     */
+    @NotNull
+    List<String> suggest(@NotNull String argument, int limit) {
+        SuggestionIndex suggestionIndex = this.suggestionIndex;
+        if (suggestionIndex == null) {
+            suggestionIndex = literalValues.isEmpty() ? SuggestionIndex.EMPTY : new SuggestionIndex(literalValues);
+            this.suggestionIndex = suggestionIndex;
+        }
+        return suggestionIndex.search(argument, maxDistanceOf(argument), limit);
+    }
+
+    /**
+     * 短参数只允许一处差异，较长的参数至多允许两处
+     */
+    static int maxDistanceOf(@NotNull String argument) {
+        return argument.length() <= 3 ? 1 : 2;
+    }
+
+    @Nullable
+    Command accept(@NotNull CommandContext context, String[] args, int cursor) {
+        Integer literal = literals.get(args[cursor]);
+        if (caseFoldings.length == 0) {
+            return accept(context, args, cursor, literal == null ? subCommands.length : literal);
+        }
+        context.setArguments(args);
+        context.setDepth(cursor);
+        return acceptCandidates(context, args, cursor, literal == null ? -1 : literal);
+    }
+
+    /**
+     * @return 大于 previous 的最小的命中的字面量子命令的下标，没有时为子命令数量
+     */
+    private int nextCandidate(@NotNull CommandContext context, int literal, int previous) {
+        int next = literal > previous ? literal : subCommands.length;
+        // 每种折叠方式至多命中一个字面量，参数的折叠形式由上下文缓存
+        for (int i = 0; i < caseFoldings.length; i++) {
+            Integer folded = foldedLiterals[i].get(context.getFoldedArgument(caseFoldings[i]));
+            if (folded != null && folded > previous && folded < next) {
+                next = folded;
+            }
+        }
+        return next;
+    }
+
+    @Nullable
+    private Command accept(@NotNull CommandContext context, String[] args, int cursor, int literalOrder) {
+        int i = 0;
+        for (; i < wildcards.length && wildcards[i] < literalOrder; i++) {
+            Command subCommand = subCommands[wildcards[i]];
+            if (subCommand.acceptArgument(context, args, cursor)) {
+                return subCommand;
+            }
+        }
+        if (literalOrder < subCommands.length) {
+            Command subCommand = subCommands[literalOrder];
+            if (subCommand.acceptArgument(context, args, cursor)) {
+                return subCommand;
+            }
+        }
+        for (; i < wildcards.length; i++) {
+            Command subCommand = subCommands[wildcards[i]];
+            if (subCommand.acceptArgument(context, args, cursor)) {
+                return subCommand;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 按添加顺序合并命中的字面量子命令与其余子命令后逐个尝试，每次只取出下一个命中的字面量子命令，不借助临时数组。
+     *
+     * @param literal 参数原样命中的字面量子命令的下标，未命中时为 -1
+     */
+    @Nullable
+    private Command acceptCandidates(@NotNull CommandContext context, String[] args, int cursor, int literal) {
+        int i = 0;
+        for (int candidate = nextCandidate(context, literal, -1); candidate < subCommands.length;
+             candidate = nextCandidate(context, literal, candidate)) {
+            for (; i < wildcards.length && wildcards[i] < candidate; i++) {
+                Command subCommand = subCommands[wildcards[i]];
+                if (subCommand.acceptArgument(context, args, cursor)) {
+                    return subCommand;
+                }
+            }
+            Command subCommand = subCommands[candidate];
+            if (subCommand.acceptArgument(context, args, cursor)) {
+                return subCommand;
+            }
+        }
+        for (; i < wildcards.length; i++) {
+            Command subCommand = subCommands[wildcards[i]];
+            if (subCommand.acceptArgument(context, args, cursor)) {
+                return subCommand;
+            }
+        }
+        return null;
+    }
+}
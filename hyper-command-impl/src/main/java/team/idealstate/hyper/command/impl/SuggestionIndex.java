@@ -0,0 +1,215 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.command.api.argument.CaseFolding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>SuggestionIndex</p>
+ *
+ * <p>
+ * 为未能匹配的参数查找相近字面量的索引。字面量以 {@link CaseFolding#ROOT} 折叠后，
+ * 将其本身及删去任意一个字符后的各个变体的 64 位散列值存入开放寻址表；查找时对参数做同样的变换，
+ * 只需 “参数长度 + 1” 次散列查找即可得到候选项，再以编辑距离校验并排序。
+ * </p>
+ *
+ * <p>
+ * 编辑距离不超过 1 的字面量必定能被找到，距离为 2 时仅能找到两侧各删去一个字符后相同的字面量
+ * （例如相邻字符互换）。与 BK 树不同，查找的耗时不随字面量的数量及其相似程度增长。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 19:50</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class SuggestionIndex {
+
+    static final SuggestionIndex EMPTY = new SuggestionIndex(Collections.emptyList());
+    private static final int MAX_DISTANCE = 2;
+
+    private final String[] keys;
+    private final String[] values;
+    private final long[] hashes;
+    /**
+     * 字面量序号加 1，为 0 时表示空槽
+     */
+    private final int[] entries;
+    private final int mask;
+
+    /**
+     * @param values 按优先顺序排列的字面量，折叠后重复的字面量只保留第一个
+     */
+    SuggestionIndex(@NotNull List<String> values) {
+        List<String> keyList = new ArrayList<>(values.size());
+        List<String> valueList = new ArrayList<>(values.size());
+        Set<String> seen = new HashSet<>();
+        int variantCount = 0;
+        for (String value : values) {
+            String key = CaseFolding.ROOT.fold(value);
+            if (seen.add(key)) {
+                keyList.add(key);
+                valueList.add(value);
+                variantCount += key.length() + 1;
+            }
+        }
+        this.keys = keyList.toArray(new String[0]);
+        this.values = valueList.toArray(new String[0]);
+        int capacity = Integer.highestOneBit(Math.max(16, variantCount * 2 - 1)) << 1;
+        this.hashes = new long[capacity];
+        this.entries = new int[capacity];
+        this.mask = capacity - 1;
+        for (int id = 0; id < keys.length; id++) {
+            String key = keys[id];
+            for (int skipped = -1; skipped < key.length(); skipped++) {
+                // 连续相同的字符删去任意一个得到的变体相同
+                if (skipped > 0 && key.charAt(skipped) == key.charAt(skipped - 1)) {
+                    continue;
+                }
+                insert(hash(key, skipped), id);
+            }
+        }
+    }
+
+    private void insert(long hash, int id) {
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while (entries[slot] != 0) {
+            if (hashes[slot] == hash && entries[slot] == id + 1) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        hashes[slot] = hash;
+        entries[slot] = id + 1;
+    }
+
+    /**
+     * 删去 skipped 处字符（为 -1 时不删去）后的字符串的散列值
+     */
+    private static long hash(@NotNull String string, int skipped) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < string.length(); i++) {
+            if (i != skipped) {
+                hash = (hash ^ string.charAt(i)) * 0x100000001B3L;
+            }
+        }
+        return hash ^ (hash >>> 29);
+    }
+
+    /**
+     * @param maxDistance 允许的编辑距离，大于 2 时按 2 处理
+     * @return 编辑距离不超过 maxDistance 的至多 limit 个字面量，按距离及优先顺序排列
+     */
+    @NotNull
+    List<String> search(@NotNull String query, int maxDistance, int limit) {
+        if (keys.length == 0 || limit <= 0) {
+            return Collections.emptyList();
+        }
+        maxDistance = Math.min(maxDistance, MAX_DISTANCE);
+        String key = CaseFolding.ROOT.fold(query);
+        // 以 “距离 << 32 | 序号” 记录命中项，排序后即为所需顺序
+        long[] matches = new long[8];
+        int matchCount = 0;
+        int[] rows = new int[(key.length() + 1) * 2];
+        for (int skipped = -1; skipped < key.length(); skipped++) {
+            if (skipped > 0 && key.charAt(skipped) == key.charAt(skipped - 1)) {
+                continue;
+            }
+            long hash = hash(key, skipped);
+            for (int slot = (int) (hash ^ (hash >>> 32)) & mask; entries[slot] != 0; slot = (slot + 1) & mask) {
+                if (hashes[slot] != hash) {
+                    continue;
+                }
+                int id = entries[slot] - 1;
+                if (contains(matches, matchCount, id)) {
+                    continue;
+                }
+                int distance = distance(key, keys[id], maxDistance, rows);
+                if (distance <= maxDistance) {
+                    if (matchCount == matches.length) {
+                        matches = Arrays.copyOf(matches, matchCount << 1);
+                    }
+                    matches[matchCount++] = ((long) distance << 32) | id;
+                }
+            }
+        }
+        if (matchCount == 0) {
+            return Collections.emptyList();
+        }
+        Arrays.sort(matches, 0, matchCount);
+        int count = Math.min(limit, matchCount);
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(values[(int) matches[i]]);
+        }
+        return result;
+    }
+
+    private static boolean contains(long[] matches, int matchCount, int id) {
+        for (int i = 0; i < matchCount; i++) {
+            if ((int) matches[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 两个字符串的编辑距离，超过 bound 时返回某个大于 bound 的值
+     *
+     * @param rows 长度不小于 (left.length() + 1) * 2 的缓冲区
+     */
+    private static int distance(@NotNull String left, @NotNull String right, int bound, int[] rows) {
+        int leftLength = left.length();
+        int rightLength = right.length();
+        if (Math.abs(leftLength - rightLength) > bound) {
+            return Math.abs(leftLength - rightLength);
+        }
+        int previous = 0;
+        int current = leftLength + 1;
+        for (int i = 0; i <= leftLength; i++) {
+            rows[previous + i] = i;
+        }
+        for (int j = 1; j <= rightLength; j++) {
+            rows[current] = j;
+            int rowMin = j;
+            char c = right.charAt(j - 1);
+            for (int i = 1; i <= leftLength; i++) {
+                int cost = left.charAt(i - 1) == c ? 0 : 1;
+                int value = Math.min(Math.min(rows[current + i - 1] + 1, rows[previous + i] + 1), rows[previous + i - 1] + cost);
+                rows[current + i] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > bound) {
+                return rowMin;
+            }
+            int temp = previous;
+            previous = current;
+            current = temp;
+        }
+        return rows[previous + leftLength];
+    }
+}
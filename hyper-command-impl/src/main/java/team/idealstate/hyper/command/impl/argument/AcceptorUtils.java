@@ -16,11 +16,14 @@
 
 package team.idealstate.hyper.command.impl.argument;
 
+import org.jetbrains.annotations.NotNull;
 import team.idealstate.hyper.command.api.argument.ArgumentAcceptor;
+import team.idealstate.hyper.command.api.argument.CaseFolding;
+import team.idealstate.hyper.command.impl.StringIndex;
+import team.idealstate.hyper.commons.base.AssertUtils;
 import team.idealstate.hyper.commons.base.StringUtils;
 
 import java.util.Collection;
-import java.util.Collections;
 
 /**
  * <p>AcceptorUtils</p>
@@ -45,7 +48,10 @@ public abstract class AcceptorUtils {
     }
 
     public static ArgumentAcceptor isEquals(String string) {
-        return ((context) -> context.getArgument().equals(string));
+        if (string == null) {
+            return ((context) -> false);
+        }
+        return new LiteralAcceptor(string);
     }
 
     public static ArgumentAcceptor notEquals(String string) {
@@ -53,24 +59,39 @@ public abstract class AcceptorUtils {
     }
 
     public static ArgumentAcceptor isEqualsIgnoreCase(String string) {
-        return ((context) -> context.getArgument().equalsIgnoreCase(string));
+        return isEqualsIgnoreCase(string, CaseFolding.ROOT);
+    }
+
+    public static ArgumentAcceptor isEqualsIgnoreCase(String string, @NotNull CaseFolding caseFolding) {
+        if (string == null) {
+            return ((context) -> false);
+        }
+        return new IgnoreCaseLiteralAcceptor(string, caseFolding);
     }
 
     public static ArgumentAcceptor notEqualsIgnoreCase(String string) {
-        return ((context) -> !context.getArgument().equalsIgnoreCase(string));
+        return notEqualsIgnoreCase(string, CaseFolding.ROOT);
     }
 
-    public static ArgumentAcceptor isContains(Collection<String> strings) {
-        Collection<String> recollectStrings = promise(strings);
-        return ((context) -> recollectStrings.contains(context.getArgument()));
+    public static ArgumentAcceptor notEqualsIgnoreCase(String string, @NotNull CaseFolding caseFolding) {
+        AssertUtils.notNull(caseFolding, "无效的大小写折叠方式");
+        if (string == null) {
+            return ((context) -> true);
+        }
+        String folded = caseFolding.fold(string);
+        return ((context) -> !context.getFoldedArgument(caseFolding).equals(folded));
     }
 
-    public static ArgumentAcceptor notContains(Collection<String> strings) {
-        Collection<String> recollectStrings = promise(strings);
-        return ((context) -> !recollectStrings.contains(context.getArgument()));
+    /**
+     * 字符串会被复制到 {@link StringIndex} 中，传入同一个 {@link StringIndex} 实例时不会复制。
+     */
+    public static ArgumentAcceptor isContains(Collection<String> strings) {
+        StringIndex index = StringIndex.of(strings);
+        return ((context) -> index.contains(context.getArgument()));
     }
 
-    private static Collection<String> promise(Collection<String> strings) {
-        return strings == null ? Collections.emptySet() : strings;
+    public static ArgumentAcceptor notContains(Collection<String> strings) {
+        StringIndex index = StringIndex.of(strings);
+        return ((context) -> !index.contains(context.getArgument()));
     }
 }
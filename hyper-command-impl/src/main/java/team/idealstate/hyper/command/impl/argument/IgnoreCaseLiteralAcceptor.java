@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.argument;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.argument.ArgumentAcceptor;
+import team.idealstate.hyper.command.api.argument.CaseFolding;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+/**
+ * <p>IgnoreCaseLiteralAcceptor</p>
+ *
+ * <p>
+ * 接受折叠大小写后与字面量相同的参数。字面量在构造时折叠，参数在每次调度中只折叠一次，
+ * 父命令会以折叠后的字面量为键对此类子命令建立散列索引。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 16:50</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class IgnoreCaseLiteralAcceptor implements ArgumentAcceptor {
+
+    private final String literal;
+    private final CaseFolding caseFolding;
+    private final String foldedLiteral;
+
+    public IgnoreCaseLiteralAcceptor(@NotNull String literal, @NotNull CaseFolding caseFolding) {
+        AssertUtils.notNull(literal, "无效的字面量");
+        AssertUtils.notNull(caseFolding, "无效的大小写折叠方式");
+        this.literal = literal;
+        this.caseFolding = caseFolding;
+        this.foldedLiteral = caseFolding.fold(literal);
+    }
+
+    @NotNull
+    public String getLiteral() {
+        return literal;
+    }
+
+    @NotNull
+    public CaseFolding getCaseFolding() {
+        return caseFolding;
+    }
+
+    @NotNull
+    public String getFoldedLiteral() {
+        return foldedLiteral;
+    }
+
+    @Override
+    public boolean acceptArgument(@NotNull CommandContext context) {
+        return context.getFoldedArgument(caseFolding).equals(foldedLiteral);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.argument;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.argument.ArgumentAcceptor;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+/**
+ * <p>LiteralAcceptor</p>
+ *
+ * <p>
+ * 仅接受与字面量完全相同的参数，父命令会以字面量为键对此类子命令建立散列索引。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 9:12</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LiteralAcceptor implements ArgumentAcceptor {
+
+    private final String literal;
+
+    public LiteralAcceptor(@NotNull String literal) {
+        AssertUtils.notNull(literal, "无效的字面量");
+        this.literal = literal;
+    }
+
+    @NotNull
+    public String getLiteral() {
+        return literal;
+    }
+
+    @Override
+    public boolean acceptArgument(@NotNull CommandContext context) {
+        return context.getArgument().equals(literal);
+    }
+}
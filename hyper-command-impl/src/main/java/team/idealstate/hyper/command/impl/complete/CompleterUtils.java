@@ -16,10 +16,16 @@
 
 package team.idealstate.hyper.command.impl.complete;
 
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.command.api.argument.CaseFolding;
 import team.idealstate.hyper.command.api.complete.CommandCompleter;
+import team.idealstate.hyper.command.impl.StringIndex;
+import team.idealstate.hyper.commons.base.AssertUtils;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>CompleterUtils</p>
@@ -32,27 +38,105 @@ import java.util.List;
  */
 public abstract class CompleterUtils {
 
+    /**
+     * 默认补全器在没有前缀匹配项时，最多返回的模糊匹配项数量
+     */
+    public static final int FALLBACK_LIMIT = 20;
+
+    /**
+     * 流式补全在没有前缀匹配项时，最多向没有索引的示例提供器请求的示例数量，以 {@link StringIndex} 为示例的提供器不受此限制
+     */
+    public static final int FALLBACK_SCAN_LIMIT = 4096;
+
     private static final CommandCompleter DEFAULT = (context, examples) -> {
         if (examples.isEmpty()) {
             return examples;
         }
         String argument = context.getArgument();
         List<String> result = null;
-        for (String example : examples) {
-            if (example != null && example.startsWith(argument)) {
-                if (result == null) {
-                    result = new LinkedList<>();
+        if (examples instanceof StringIndex) {
+            result = ((StringIndex) examples).startsWith(argument);
+        } else {
+            for (String example : examples) {
+                if (example != null && example.startsWith(argument)) {
+                    if (result == null) {
+                        result = new ArrayList<>();
+                    }
+                    result.add(example);
                 }
-                result.add(example);
             }
         }
-        if (result == null) {
-            return examples;
+        if (result == null || result.isEmpty()) {
+            // 没有区分大小写的匹配项时，退回排名最靠前的若干模糊匹配项
+            return fuzzyCompleter(FALLBACK_LIMIT).complete(context, examples);
         }
         return result;
     };
 
+    private static final Map<CaseFolding, CommandCompleter> IGNORE_CASE = new EnumMap<>(CaseFolding.class);
+
+    static {
+        for (CaseFolding caseFolding : CaseFolding.values()) {
+            IGNORE_CASE.put(caseFolding, ignoreCase(caseFolding));
+        }
+    }
+
+    private static CommandCompleter ignoreCase(CaseFolding caseFolding) {
+        return (context, examples) -> {
+            if (examples.isEmpty()) {
+                return examples;
+            }
+            // 参数在每次调度中只折叠一次，StringIndex 中的示例只在首次查询时折叠
+            String argument = context.getFoldedArgument(caseFolding);
+            List<String> result = null;
+            if (examples instanceof StringIndex) {
+                result = ((StringIndex) examples).startsWithIgnoreCase(argument, caseFolding);
+            } else {
+                for (String example : examples) {
+                    if (example != null && caseFolding.fold(example).startsWith(argument)) {
+                        if (result == null) {
+                            result = new ArrayList<>();
+                        }
+                        result.add(example);
+                    }
+                }
+            }
+            if (result == null || result.isEmpty()) {
+                // 与默认补全器一致，退回排名最靠前的若干模糊匹配项
+                return fuzzyCompleter(FALLBACK_LIMIT).complete(context, examples);
+            }
+            return result;
+        };
+    }
+
     public static CommandCompleter defaultCompleter() {
         return DEFAULT;
     }
+
+    /**
+     * 模糊补全器，返回至多 limit 个按 {@link FuzzyIndex} 的规则排名的匹配项，
+     * 示例为 {@link StringIndex} 时使用其模糊索引。
+     */
+    public static CommandCompleter fuzzyCompleter(int limit) {
+        AssertUtils.isTrue(limit > 0, "数量上限必须大于 0");
+        return (context, examples) -> {
+            if (examples.isEmpty()) {
+                return examples;
+            }
+            String argument = context.getArgument();
+            if (examples instanceof StringIndex) {
+                return ((StringIndex) examples).getFuzzyIndex().search(argument, limit);
+            }
+            return FuzzyIndex.search(examples, argument, limit);
+        };
+    }
+
+    public static CommandCompleter ignoreCaseCompleter() {
+        return ignoreCaseCompleter(CaseFolding.ROOT);
+    }
+
+    public static CommandCompleter ignoreCaseCompleter(@NotNull CaseFolding caseFolding) {
+        AssertUtils.notNull(caseFolding, "无效的大小写折叠方式");
+        return IGNORE_CASE.get(caseFolding);
+    }
 }
@@ -0,0 +1,414 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.complete;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.command.api.argument.CaseFolding;
+import team.idealstate.hyper.command.api.example.ExampleSink;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * <p>FuzzyIndex</p>
+ *
+ * <p>
+ * 模糊补全的索引。候选项与查询均以 {@link CaseFolding#ROOT} 折叠后比较，匹配结果按以下顺序排名：
+ * 不区分大小写的前缀匹配、首字符相同的子序列匹配、允许少量拼写错误的前缀匹配（编辑距离越小越靠前），
+ * 同一档次内较短的候选项优先，最后按字典序排列。
+ * </p>
+ *
+ * <p>
+ * 折叠后的候选项按字典序排列，相邻候选项的公共前缀只计算一次，相当于在隐式的前缀树上深度优先遍历；
+ * 编辑距离以 Myers 位并行算法逐字符计算，某个前缀已不可能匹配时跳过以该前缀开头的所有候选项。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 19:00</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FuzzyIndex {
+
+    public static final FuzzyIndex EMPTY = new FuzzyIndex(new String[0], new String[0]);
+    private static final Comparator<Match> ORDER = Comparator.<Match>comparingInt(match -> match.tier)
+            .thenComparingInt(match -> match.candidate.length())
+            .thenComparing(match -> match.candidate);
+
+    private final String[] strings;
+    private final String[] folded;
+    /**
+     * 与前一个折叠后的候选项的公共前缀长度
+     */
+    private final int[] prefixLengths;
+    /**
+     * 候选项所含字符的位图，查询含有候选项中没有的字符时，候选项只可能以拼写错误的方式匹配
+     */
+    private final long[] charMasks;
+
+    private FuzzyIndex(@NotNull String[] strings, @NotNull String[] folded) {
+        this.strings = strings;
+        this.folded = folded;
+        this.prefixLengths = new int[folded.length];
+        this.charMasks = new long[folded.length];
+        for (int i = 0; i < folded.length; i++) {
+            charMasks[i] = charMask(folded[i]);
+        }
+        for (int i = 1; i < folded.length; i++) {
+            String previous = folded[i - 1];
+            String current = folded[i];
+            int length = Math.min(previous.length(), current.length());
+            int j = 0;
+            while (j < length && previous.charAt(j) == current.charAt(j)) {
+                j++;
+            }
+            prefixLengths[i] = j;
+        }
+    }
+
+    private static long charMask(@NotNull String string) {
+        long charMask = 0;
+        for (int i = 0; i < string.length(); i++) {
+            charMask |= 1L << string.charAt(i);
+        }
+        return charMask;
+    }
+
+    @NotNull
+    public static FuzzyIndex of(Collection<String> strings) {
+        if (strings == null || strings.isEmpty()) {
+            return EMPTY;
+        }
+        List<String[]> pairs = new ArrayList<>(strings.size());
+        for (String string : strings) {
+            if (string != null) {
+                pairs.add(new String[]{CaseFolding.ROOT.fold(string), string});
+            }
+        }
+        pairs.sort(Comparator.<String[], String>comparing(pair -> pair[0]).thenComparing(pair -> pair[1]));
+        String[] originals = new String[pairs.size()];
+        String[] folded = new String[pairs.size()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = pairs.get(i)[0];
+            originals[i] = pairs.get(i)[1];
+        }
+        return new FuzzyIndex(originals, folded);
+    }
+
+    /**
+     * @return 至多 limit 个按排名排列的匹配项
+     */
+    @NotNull
+    public List<String> search(@NotNull String query, int limit) {
+        Ranking ranking = new Ranking(query, limit);
+        Matcher matcher = ranking.matcher;
+        long queryMask = charMask(matcher.query);
+        // 状态数组中与当前候选项一致的深度
+        int depth = 0;
+        for (int i = 0; i < folded.length; i++) {
+            String candidate = folded[i];
+            int shared = Math.min(prefixLengths[i], depth);
+            boolean complete = (charMasks[i] & queryMask) == queryMask;
+            if (!complete && !matcher.isTypoAllowed()) {
+                depth = shared;
+                continue;
+            }
+            depth = matcher.run(candidate, shared, complete);
+            if (depth < candidate.length()) {
+                if (complete) {
+                    // 以已计算部分为前缀的候选项都不可能匹配
+                    while (i + 1 < folded.length && prefixLengths[i + 1] >= depth) {
+                        i++;
+                    }
+                }
+                continue;
+            }
+            ranking.offer(strings[i], matcher.tier(depth, complete));
+        }
+        return ranking.getResult();
+    }
+
+    /**
+     * 不使用索引，逐个对候选项计算排名，结果与 {@link #search(String, int)} 一致。
+     */
+    @NotNull
+    public static List<String> search(@NotNull Collection<String> candidates, @NotNull String query, int limit) {
+        Ranking ranking = new Ranking(query, limit);
+        for (String candidate : candidates) {
+            if (candidate != null) {
+                ranking.accept(candidate);
+            }
+        }
+        return ranking.getResult();
+    }
+
+    /**
+     * 以有界的堆保留排名最靠前的 limit 个匹配项，可作为 {@link ExampleSink} 接收流式提供的示例，
+     * 占用的内存与示例总数无关。
+     */
+    public static final class Ranking implements ExampleSink {
+
+        private final Matcher matcher;
+        private final int limit;
+        private final PriorityQueue<Match> matches;
+        private int count = 0;
+
+        public Ranking(@NotNull String query, int limit) {
+            AssertUtils.notNull(query, "无效的查询");
+            AssertUtils.isTrue(limit > 0, "数量上限必须大于 0");
+            this.matcher = new Matcher(CaseFolding.ROOT.fold(query));
+            this.limit = limit;
+            this.matches = new PriorityQueue<>(Math.min(limit, 32) + 1, ORDER.reversed());
+        }
+
+        @Override
+        public boolean accept(@NotNull String example) {
+            count++;
+            String candidate = CaseFolding.ROOT.fold(example);
+            int depth = matcher.run(candidate, 0, true);
+            if (depth == candidate.length()) {
+                offer(example, matcher.tier(depth, true));
+            }
+            return true;
+        }
+
+        private void offer(@NotNull String candidate, int tier) {
+            if (tier < 0) {
+                return;
+            }
+            Match match = new Match(candidate, tier);
+            if (matches.size() < limit) {
+                matches.add(match);
+            } else if (ORDER.compare(match, matches.peek()) < 0) {
+                matches.poll();
+                matches.add(match);
+            } else {
+                return;
+            }
+            if (matches.size() == limit) {
+                // 档次高于当前末位的候选项不可能再进入排名
+                matcher.maxTier = matches.peek().tier;
+            }
+        }
+
+        /**
+         * @return 已接收的示例数量
+         */
+        public int getCount() {
+            return count;
+        }
+
+        @NotNull
+        public List<String> getResult() {
+            if (matches.isEmpty()) {
+                return Collections.emptyList();
+            }
+            Match[] sorted = matches.toArray(new Match[0]);
+            Arrays.sort(sorted, ORDER);
+            List<String> result = new ArrayList<>(sorted.length);
+            for (Match match : sorted) {
+                result.add(match.candidate);
+            }
+            return result;
+        }
+    }
+
+    private static final class Match {
+
+        private final String candidate;
+        private final int tier;
+
+        private Match(String candidate, int tier) {
+            this.candidate = candidate;
+            this.tier = tier;
+        }
+    }
+
+    /**
+     * 逐字符推进的匹配状态，按深度保存，以便相邻候选项复用公共前缀部分的状态。
+     */
+    private static final class Matcher {
+
+        private final String query;
+        private final int length;
+        /**
+         * 允许的编辑距离，为 0 时不计算编辑距离
+         */
+        private final int maxDistance;
+        private final long[] asciiMasks = new long[128];
+        private final Map<Character, Long> otherMasks = new HashMap<>();
+        private final long mask;
+        private final long high;
+        /**
+         * 仍可能进入排名的最大档次，排名已满时由 {@link Ranking} 降低，只减不增
+         */
+        private int maxTier = Integer.MAX_VALUE;
+
+        private boolean[] prefixes = new boolean[16];
+        private int[] subsequences = new int[16];
+        private long[] positives = new long[16];
+        private long[] negatives = new long[16];
+        private int[] distances = new int[16];
+        private int[] bestDistances = new int[16];
+
+        private Matcher(@NotNull String query) {
+            this.query = query;
+            this.length = query.length();
+            this.maxDistance = length > 64 || length <= 2 ? 0 : length <= 5 ? 1 : 2;
+            this.mask = length >= 64 ? -1L : (1L << length) - 1;
+            this.high = length == 0 ? 0 : 1L << (Math.min(length, 64) - 1);
+            if (maxDistance > 0) {
+                for (int i = 0; i < length; i++) {
+                    char c = query.charAt(i);
+                    if (c < 128) {
+                        asciiMasks[c] |= 1L << i;
+                    } else {
+                        otherMasks.merge(c, 1L << i, (left, right) -> left | right);
+                    }
+                }
+            }
+            prefixes[0] = true;
+            subsequences[0] = 0;
+            positives[0] = mask;
+            negatives[0] = 0;
+            distances[0] = length;
+            bestDistances[0] = length;
+        }
+
+        private long maskOf(char c) {
+            if (c < 128) {
+                return asciiMasks[c];
+            }
+            Long charMask = otherMasks.get(c);
+            return charMask == null ? 0 : charMask;
+        }
+
+        /**
+         * 自 from 处继续计算候选项的状态
+         *
+         * @return 计算到的深度，小于候选项长度时表示以该深度的前缀开头的候选项均不可能匹配
+         */
+        private boolean isTypoAllowed() {
+            return maxDistance > 0 && maxTier >= 2;
+        }
+
+        /**
+         * @param complete 候选项是否含有查询的全部字符，否则只可能以拼写错误的方式匹配
+         */
+        private int run(@NotNull String candidate, int from, boolean complete) {
+            int candidateLength = candidate.length();
+            if (prefixes.length <= candidateLength) {
+                int capacity = Math.max(prefixes.length << 1, candidateLength + 1);
+                prefixes = Arrays.copyOf(prefixes, capacity);
+                subsequences = Arrays.copyOf(subsequences, capacity);
+                positives = Arrays.copyOf(positives, capacity);
+                negatives = Arrays.copyOf(negatives, capacity);
+                distances = Arrays.copyOf(distances, capacity);
+                bestDistances = Arrays.copyOf(bestDistances, capacity);
+            }
+            for (int depth = from; depth < candidateLength; depth++) {
+                if (isHopeless(depth, complete)) {
+                    return depth;
+                }
+                step(depth, candidate.charAt(depth));
+            }
+            return candidateLength;
+        }
+
+        private void step(int depth, char c) {
+            int next = depth + 1;
+            prefixes[next] = prefixes[depth] && (depth >= length || query.charAt(depth) == c);
+            int subsequence = subsequences[depth];
+            if (subsequence < 0 || (depth == 0 && length > 0 && query.charAt(0) != c)) {
+                subsequences[next] = -1;
+            } else {
+                subsequences[next] = subsequence < length && query.charAt(subsequence) == c ? subsequence + 1 : subsequence;
+            }
+            if (!isTypoAllowed()) {
+                return;
+            }
+            long positive = positives[depth];
+            long negative = negatives[depth];
+            long equal = maskOf(c);
+            long vertical = equal | negative;
+            long horizontal = (((equal & positive) + positive) ^ positive) | equal;
+            long horizontalPositive = negative | ~(horizontal | positive);
+            long horizontalNegative = positive & horizontal;
+            int distance = distances[depth];
+            if ((horizontalPositive & high) != 0) {
+                distance++;
+            } else if ((horizontalNegative & high) != 0) {
+                distance--;
+            }
+            // 候选项须从首字符开始匹配，因此第 0 行随深度递增
+            horizontalPositive = (horizontalPositive << 1) | 1;
+            horizontalNegative <<= 1;
+            positives[next] = (horizontalNegative | ~(vertical | horizontalPositive)) & mask;
+            negatives[next] = horizontalPositive & vertical & mask;
+            distances[next] = distance;
+            bestDistances[next] = Math.min(bestDistances[depth], distance);
+        }
+
+        private boolean isHopeless(int depth, boolean complete) {
+            if (complete && (prefixes[depth] || (maxTier >= 1 && subsequences[depth] >= 0))) {
+                return false;
+            }
+            if (!isTypoAllowed()) {
+                return true;
+            }
+            int allowed = Math.min(maxDistance, maxTier - 1);
+            if (bestDistances[depth] <= allowed) {
+                return false;
+            }
+            // 之后的任何位置的编辑距离都不小于当前列的最小值
+            int value = depth;
+            int min = value;
+            long positive = positives[depth];
+            long negative = negatives[depth];
+            for (int i = 0; i < length; i++) {
+                value += (int) ((positive >>> i) & 1) - (int) ((negative >>> i) & 1);
+                min = Math.min(min, value);
+            }
+            return min > allowed;
+        }
+
+        /**
+         * @return 完整计算后的候选项的匹配档次，不匹配时返回 -1
+         */
+        private int tier(int depth, boolean complete) {
+            if (complete && prefixes[depth] && depth >= length) {
+                return 0;
+            }
+            if (complete && subsequences[depth] == length) {
+                return 1;
+            }
+            if (isTypoAllowed() && bestDistances[depth] <= maxDistance) {
+                return 1 + bestDistances[depth];
+            }
+            return -1;
+        }
+    }
+}
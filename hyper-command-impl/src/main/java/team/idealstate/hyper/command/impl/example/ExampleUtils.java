@@ -16,9 +16,13 @@
 
 package team.idealstate.hyper.command.impl.example;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.CommandContext;
 import team.idealstate.hyper.command.api.example.ExampleProvider;
+import team.idealstate.hyper.command.api.example.ExampleSink;
+import team.idealstate.hyper.command.impl.StringIndex;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -38,15 +42,46 @@ public abstract class ExampleUtils {
         return ((context) -> Collections.singletonList(string));
     }
 
+    /**
+     * 字符串会被复制到 {@link StringIndex} 中，传入同一个 {@link StringIndex} 实例时不会复制，
+     * 可与 {@link team.idealstate.hyper.command.impl.argument.AcceptorUtils#isContains(Collection)} 共用。
+     * 流式提供示例时以前缀索引直接截取至多 limit 个示例。
+     */
     public static ExampleProvider collection(Collection<String> strings) {
-        List<String> recollectStrings = promise(strings);
-        return ((context) -> recollectStrings);
+        return new IndexedExampleProvider(StringIndex.of(strings));
     }
 
-    private static List<String> promise(Collection<String> strings) {
-        if (strings instanceof List) {
-            return (List<String>) strings;
+    /**
+     * @return 由 {@link #collection(Collection)} 创建的示例提供器的索引，其余提供器返回 null
+     */
+    @Nullable
+    public static StringIndex indexOf(@NotNull ExampleProvider exampleProvider) {
+        if (exampleProvider instanceof IndexedExampleProvider) {
+            return ((IndexedExampleProvider) exampleProvider).index;
+        }
+        return null;
+    }
+
+    private static final class IndexedExampleProvider implements ExampleProvider {
+
+        private final StringIndex index;
+
+        private IndexedExampleProvider(StringIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public @NotNull List<String> provideExample(@NotNull CommandContext context) {
+            return index;
+        }
+
+        @Override
+        public void provideExample(@NotNull CommandContext context, @NotNull String prefix, int limit, @NotNull ExampleSink sink) {
+            for (String example : index.startsWith(prefix, limit)) {
+                if (!sink.accept(example)) {
+                    return;
+                }
+            }
         }
-        return strings == null ? Collections.emptyList() : new ArrayList<>(strings);
     }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.framework;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.ContextKey;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>BindingPlan</p>
+ *
+ * <p>
+ * 子命令方法的参数绑定计划，在构建命令时为每个参数确定唯一的来源：
+ * 表达式中的同名参数（以预先解析的 {@link ContextKey} 读取）、命令上下文本身，
+ * 或是无来源（引用类型为 null，基本类型为其默认值）。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 12:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BindingPlan {
+
+    private static final byte NONE = 0;
+    private static final byte TOKEN = 1;
+    private static final byte CONTEXT = 2;
+
+    private final byte[] sources;
+    private final ContextKey[] keys;
+    private final Class<?>[] valueTypes;
+    private final Object[] defaults;
+
+    private BindingPlan(byte[] sources, ContextKey[] keys, Class<?>[] valueTypes, Object[] defaults) {
+        this.sources = sources;
+        this.keys = keys;
+        this.valueTypes = valueTypes;
+        this.defaults = defaults;
+    }
+
+    @NotNull
+    public static BindingPlan of(@NotNull String expression, @NotNull String[] parameterNames, @NotNull Class<?>[] parameterTypes) {
+        AssertUtils.notNull(expression, "无效的子命令表达式");
+        AssertUtils.notNull(parameterNames, "无效的参数名列表");
+        AssertUtils.notNull(parameterTypes, "无效的参数类型列表");
+        if (parameterNames.length != parameterTypes.length) {
+            throw new IllegalArgumentException("参数名列表与参数类型列表的长度不一致");
+        }
+        Set<String> tokens = new HashSet<>();
+        for (String token : expression.split(" ", -1)) {
+            if (CommandHandlerBuilder.isToken(token)) {
+                tokens.add(token);
+            }
+        }
+        int length = parameterTypes.length;
+        byte[] sources = new byte[length];
+        ContextKey[] keys = new ContextKey[length];
+        Class<?>[] valueTypes = new Class<?>[length];
+        Object[] defaults = new Object[length];
+        for (int i = 0; i < length; i++) {
+            Class<?> parameterType = parameterTypes[i];
+            valueTypes[i] = boxed(parameterType);
+            defaults[i] = defaultValue(parameterType);
+            if (CommandContext.class.equals(parameterType)) {
+                sources[i] = CONTEXT;
+                continue;
+            }
+            String token = CommandHandlerBuilder.token(parameterNames[i]);
+            if (tokens.contains(token)) {
+                sources[i] = TOKEN;
+                keys[i] = ContextKey.of(token);
+            } else {
+                sources[i] = NONE;
+            }
+        }
+        return new BindingPlan(sources, keys, valueTypes, defaults);
+    }
+
+    public int size() {
+        return sources.length;
+    }
+
+    @NotNull
+    public Object[] bind(@NotNull CommandContext context) {
+        Object[] arguments = new Object[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            switch (sources[i]) {
+                case TOKEN:
+                    Object value = context.getValue(keys[i]);
+                    arguments[i] = valueTypes[i].isInstance(value) ? value : defaults[i];
+                    break;
+                case CONTEXT:
+                    arguments[i] = context;
+                    break;
+                default:
+                    arguments[i] = defaults[i];
+            }
+        }
+        return arguments;
+    }
+
+    @NotNull
+    private static Class<?> boxed(@NotNull Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (boolean.class.equals(type)) {
+            return Boolean.class;
+        } else if (byte.class.equals(type)) {
+            return Byte.class;
+        } else if (short.class.equals(type)) {
+            return Short.class;
+        } else if (int.class.equals(type)) {
+            return Integer.class;
+        } else if (long.class.equals(type)) {
+            return Long.class;
+        } else if (char.class.equals(type)) {
+            return Character.class;
+        } else if (float.class.equals(type)) {
+            return Float.class;
+        } else if (double.class.equals(type)) {
+            return Double.class;
+        }
+        return Void.class;
+    }
+
+    private static Object defaultValue(@NotNull Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        }
+        if (boolean.class.equals(type)) {
+            return false;
+        } else if (byte.class.equals(type)) {
+            return (byte) 0;
+        } else if (short.class.equals(type)) {
+            return (short) 0;
+        } else if (int.class.equals(type)) {
+            return 0;
+        } else if (long.class.equals(type)) {
+            return 0L;
+        } else if (char.class.equals(type)) {
+            return (char) 0;
+        } else if (float.class.equals(type)) {
+            return 0F;
+        } else if (double.class.equals(type)) {
+            return 0D;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.framework;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.ContextKey;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.api.argument.ArgumentAcceptor;
+import team.idealstate.hyper.command.api.execute.CommandExecutor;
+import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
+import team.idealstate.hyper.command.api.framework.CommandHandler;
+import team.idealstate.hyper.command.api.framework.StandardConvertors;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+import team.idealstate.hyper.command.impl.example.ExampleUtils;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * <p>CommandHandlerBuilder</p>
+ *
+ * <p>
+ * 将命令处理器的各个子命令表达式合并为一棵共享公共前缀的命令树，供反射方式与注解处理器生成的调度器共同使用。
+ * </p>
+ *
+ * <p>
+ * 子命令的匹配顺序与表达式的添加顺序无关：同一节点下字面量子命令总是先于参数子命令，
+ * 参数子命令按参数类型由窄到宽排列（见 {@link #rankOf(Class)}），类型相同时按类型名与参数名排列。
+ * 因此以反射方式扫描方法与注解处理器按源码顺序生成的调度器，对相同的输入总是匹配到相同的方法。
+ * 调度时不会回溯，参数被较窄的类型接受后，后续参数只在该分支下继续匹配。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 11:02</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class CommandHandlerBuilder {
+
+    private static final Logger logger = LogManager.getLogger(CommandHandlerBuilder.class);
+
+    private final CommandHandler commandHandler;
+    private final String commandHandlerName;
+    private final Command root;
+    // 以“父路径 + 节点键”索引已创建的节点，使同一处理器的各个表达式共享公共前缀
+    private final Map<String, Command> nodes = new HashMap<>();
+    // 各节点的子命令按匹配顺序排列，在构建时才挂载到父命令下
+    private final Map<Command, SortedMap<String, Command>> children = new HashMap<>();
+    private boolean built = false;
+
+    public CommandHandlerBuilder(@NotNull CommandHandler commandHandler, @NotNull String rootDescription) {
+        AssertUtils.notNull(commandHandler, "无效的命令处理器");
+        AssertUtils.notBlank(rootDescription, "无效的根命令描述");
+        this.commandHandler = commandHandler;
+        this.commandHandlerName = commandHandler.getClass().getName();
+        this.root = FastCommand.command(rootDescription)
+                .exampleProvider(ExampleUtils.singleton(rootDescription))
+                .argumentAcceptor(AcceptorUtils.isEquals(rootDescription));
+    }
+
+    public static boolean isToken(@NotNull String token) {
+        return token.startsWith("${") && token.endsWith("}");
+    }
+
+    @NotNull
+    public static String token(@NotNull String tokenName) {
+        return "${" + tokenName + "}";
+    }
+
+    @NotNull
+    public static String tokenName(@NotNull String token) {
+        return token.substring(2, token.length() - 1);
+    }
+
+    @NotNull
+    private static ArgumentAcceptor tokenAcceptor(@NotNull CommandHandler commandHandler, @NotNull String token, Class<?> type) {
+        ContextKey key = ContextKey.of(token);
+        return context -> {
+            String argument = context.getArgument();
+            if (type != null) {
+                ArgumentConvertor<?> argumentConvertor = commandHandler.findArgumentConvertor(type);
+                String typeName = type.getName();
+                if (argumentConvertor == null) {
+                    logger.debug("[Command]({}) 参数转换：未找到与参数类型 {} 匹配的转换器", token, typeName);
+                    return false;
+                }
+                // 仅对标准转换器依据参数分类提前排除，自定义转换器的可接受范围未知
+                if (argumentConvertor == StandardConvertors.findArgumentConvertor(type)
+                        && !context.getArgumentKind().isConvertibleTo(type)) {
+                    logger.debug("[Command]({}) 参数转换：参数值 '{}' 不可能转换为 {} 类型值", token, argument, typeName);
+                    return false;
+                }
+                Object converted = context.tryConvertArgument(argumentConvertor);
+                if (converted == ArgumentConvertor.REJECTED) {
+                    logger.debug("[Command]({}) 参数转换：无法将参数值 '{}' 转换为 {} 类型值", token, argument, typeName);
+                    return false;
+                }
+                context.put(key, converted);
+                return true;
+            }
+            logger.debug("[Command]({}) 参数转换：未找到与命令参数 '{}' 匹配的方法参数", token, tokenName(token));
+            return false;
+        };
+    }
+
+    /**
+     * 参数类型的宽窄次序，可接受的参数值越少的类型越靠前，{@link String} 与未绑定的参数总是最后。
+     */
+    static int rankOf(Class<?> type) {
+        if (type == null) {
+            return 12;
+        }
+        if (boolean.class.equals(type) || Boolean.class.equals(type)) {
+            return 0;
+        }
+        if (byte.class.equals(type) || Byte.class.equals(type)) {
+            return 1;
+        }
+        if (short.class.equals(type) || Short.class.equals(type)) {
+            return 2;
+        }
+        if (int.class.equals(type) || Integer.class.equals(type)) {
+            return 3;
+        }
+        if (long.class.equals(type) || Long.class.equals(type)) {
+            return 4;
+        }
+        if (BigInteger.class.equals(type)) {
+            return 5;
+        }
+        if (float.class.equals(type) || Float.class.equals(type)) {
+            return 6;
+        }
+        if (double.class.equals(type) || Double.class.equals(type)) {
+            return 7;
+        }
+        if (BigDecimal.class.equals(type)) {
+            return 8;
+        }
+        if (char.class.equals(type) || Character.class.equals(type)) {
+            return 9;
+        }
+        if (String.class.equals(type)) {
+            return 11;
+        }
+        return 10;
+    }
+
+    @NotNull
+    private static String orderOf(@NotNull String token, Class<?> type) {
+        if (!isToken(token)) {
+            return "0" + token;
+        }
+        int rank = rankOf(type);
+        return "1" + (char) ('a' + rank) + (type == null ? "" : type.getName()) + " " + token;
+    }
+
+    /**
+     * @return 若已存在相同表达式的子命令则返回 false
+     */
+    public boolean subCommand(@NotNull String methodName, @NotNull String expression,
+                              @NotNull String[] parameterNames, @NotNull Class<?>[] parameterTypes,
+                              @NotNull CommandExecutor executor) {
+        AssertUtils.notBlank(expression, "无效的子命令表达式");
+        AssertUtils.notNull(parameterNames, "无效的参数名列表");
+        AssertUtils.notNull(parameterTypes, "无效的参数类型列表");
+        AssertUtils.notNull(executor, "无效的命令执行器");
+        if (built) {
+            throw new IllegalStateException("命令树已构建，无法再添加子命令");
+        }
+        if (parameterNames.length != parameterTypes.length) {
+            throw new IllegalArgumentException("参数名列表与参数类型列表的长度不一致");
+        }
+        Map<String, Class<?>> parameterMap = new HashMap<>(parameterNames.length);
+        for (int i = 0; i < parameterNames.length; i++) {
+            parameterMap.put(parameterNames[i], parameterTypes[i]);
+        }
+
+        Command parent = root;
+        String path = "";
+        for (String token : expression.split(" ", -1)) {
+            Class<?> type = null;
+            String nodeKey = token;
+            if (isToken(token)) {
+                type = parameterMap.get(tokenName(token));
+                nodeKey = token + ":" + (type == null ? "?" : type.getName());
+            }
+            path = path + " " + nodeKey;
+            Command command = nodes.get(path);
+            if (command == null) {
+                command = FastCommand.command(token);
+                if (isToken(token)) {
+                    command.argumentAcceptor(tokenAcceptor(commandHandler, token, type));
+                } else {
+                    command.exampleProvider(ExampleUtils.singleton(token))
+                            .argumentAcceptor(AcceptorUtils.isEquals(token));
+                }
+                children.computeIfAbsent(parent, (key) -> new TreeMap<>()).put(orderOf(token, type), command);
+                nodes.put(path, command);
+            }
+            parent = command;
+        }
+        if (parent.getCommandExecutor() != null) {
+            logger.error("重复的子命令表达式 {}#{}: {}", commandHandlerName, methodName, expression);
+            return false;
+        }
+        parent.commandExecutor(executor);
+        return true;
+    }
+
+    @NotNull
+    public Command build() {
+        if (!built) {
+            built = true;
+            attach(root);
+        }
+        return root;
+    }
+
+    private void attach(@NotNull Command parent) {
+        SortedMap<String, Command> subCommands = children.get(parent);
+        if (subCommands == null) {
+            return;
+        }
+        for (Command subCommand : subCommands.values()) {
+            parent.subCommand(subCommand);
+            attach(subCommand);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.framework;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.command.api.Command;
+
+/**
+ * <p>CommandHandlerDispatcher</p>
+ *
+ * <p>
+ * 由 hyper-command-processor 在编译期为标记了 @RootCommand 的命令处理器生成的调度器，
+ * 它直接调用子命令方法，从而免去运行期的反射解析。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 11:10</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface CommandHandlerDispatcher {
+
+    String NAME_SUFFIX = "_CommandDispatcher";
+
+    /**
+     * 生成的调度器与命令处理器位于同一个包中，类名为各级类名以 '_' 连接后追加 {@link #NAME_SUFFIX}，
+     * 例如 {@code Outer.Inner} 对应 {@code Outer_Inner_CommandDispatcher}。
+     */
+    @NotNull
+    static String nameOf(@NotNull Class<?> commandHandlerClass) {
+        String name = commandHandlerClass.getName();
+        int index = name.lastIndexOf('.');
+        String packagePrefix = index < 0 ? "" : name.substring(0, index + 1);
+        return packagePrefix + name.substring(index + 1).replace('$', '_') + NAME_SUFFIX;
+    }
+
+    @NotNull
+    Command createCommand();
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.history;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.action.ActionInterceptor;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>DispatchHistory</p>
+ *
+ * <p>
+ * 常开的调度飞行记录器。每个调度线程持有一个容量为 {@value #CAPACITY} 的环形缓冲区，
+ * 记录该线程最近的调度：输入的参数、到达的命令、拒绝参数或拦截执行的位置、结果与耗时。
+ * 记录时只保存参数数组与命令的引用，不复制、不加锁、不创建对象，命令路径等内容在导出时才计算；
+ * 因此调度方不应在调度之后修改传入的参数数组。
+ * </p>
+ *
+ * <p>
+ * 可随时通过 {@link #recent()} 或 {@link #dump()} 导出记录；调度过程中抛出异常时，
+ * 默认会以 WARN 级别输出当前线程最近的调度记录。异常本身仍抛给调用方，
+ * 因此输出中只引用异常的类型与信息，不附带堆栈。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 21:10</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class DispatchHistory {
+
+    /**
+     * 每个线程保留的调度记录数量，须为 2 的幂
+     */
+    public static final int CAPACITY = 64;
+    private static final Logger logger = LogManager.getLogger(DispatchHistory.class);
+    private static final Set<DispatchRing> RINGS = ConcurrentHashMap.newKeySet();
+    private static final ThreadLocal<DispatchRing> CURRENT = ThreadLocal.withInitial(DispatchHistory::createRing);
+    private static volatile boolean enabled = true;
+    private static volatile boolean dumpOnError = true;
+
+    @NotNull
+    private static DispatchRing createRing() {
+        // 线程创建缓冲区的次数很少，顺带清理已结束的线程的缓冲区
+        RINGS.removeIf(ring -> !ring.isAlive());
+        DispatchRing ring = new DispatchRing(Thread.currentThread(), CAPACITY);
+        RINGS.add(ring);
+        return ring;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 关闭后不再记录新的调度，已有的记录仍可导出。
+     */
+    public static void setEnabled(boolean enabled) {
+        DispatchHistory.enabled = enabled;
+    }
+
+    public static boolean isDumpOnError() {
+        return dumpOnError;
+    }
+
+    /**
+     * @param dumpOnError 调度过程中抛出异常时是否输出当前线程最近的调度记录
+     */
+    public static void setDumpOnError(boolean dumpOnError) {
+        DispatchHistory.dumpOnError = dumpOnError;
+    }
+
+    /**
+     * @return 调度开始的时间，未开启记录时为 0
+     */
+    public static long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * 记录一次参数未能全部被接受的调度。
+     *
+     * @param command 未能接受下一个参数的命令
+     * @param cursor  被拒绝的参数的下标
+     */
+    public static void recordMismatch(long start, @NotNull Command command, @NotNull String[] args, int cursor) {
+        if (start != 0L) {
+            record(start, command, args, cursor, DispatchRecord.Outcome.MISMATCHED, null);
+        }
+    }
+
+    /**
+     * 记录一次参数全部被接受的调度。结果为 null 时，若命令存在执行器与拦截器，则执行必然是被其拦截器拦截的。
+     *
+     * @param result 命令的执行结果
+     */
+    public static void recordExecute(long start, @NotNull Command command, @NotNull String[] args, int cursor, @Nullable Boolean result) {
+        if (start == 0L) {
+            return;
+        }
+        if (result != null) {
+            record(start, command, args, cursor, result ? DispatchRecord.Outcome.SUCCEEDED : DispatchRecord.Outcome.FAILED, null);
+            return;
+        }
+        ActionInterceptor interceptor = command.getActionInterceptor();
+        if (cursor > 0 && interceptor != null && command.getCommandExecutor() != null) {
+            record(start, command, args, cursor, DispatchRecord.Outcome.INTERCEPTED, interceptor);
+        } else {
+            record(start, command, args, cursor, DispatchRecord.Outcome.UNHANDLED, null);
+        }
+    }
+
+    /**
+     * 记录一次抛出异常的调度，异常可能来自参数接受器、转换器或命令执行器。
+     */
+    public static void recordError(long start, @NotNull Command command, @NotNull String[] args, int cursor, @NotNull Throwable error) {
+        if (start == 0L) {
+            return;
+        }
+        record(start, command, args, cursor, DispatchRecord.Outcome.ERROR, error);
+        if (dumpOnError) {
+            List<DispatchRecord> recent = recent();
+            StringBuilder builder = new StringBuilder();
+            for (DispatchRecord record : recent) {
+                builder.append(System.lineSeparator()).append("    ").append(record);
+            }
+            // 异常会抛给调用方并由其记录，此处只引用异常，避免重复输出堆栈
+            logger.warn("[Command]({}) 调度异常：{}，当前线程最近 {} 次调度：{}",
+                    command.getDescription(), String.valueOf(error), recent.size(), builder);
+        }
+    }
+
+    private static void record(long start, @NotNull Command command, @NotNull String[] args, int cursor,
+                               @NotNull DispatchRecord.Outcome outcome, @Nullable Object cause) {
+        long duration = System.nanoTime() - start;
+        CURRENT.get().write(System.currentTimeMillis(), duration, command, args, cursor, outcome, cause);
+    }
+
+    /**
+     * @return 当前线程最近的调度记录，按先后顺序排列
+     */
+    @NotNull
+    public static List<DispatchRecord> recent() {
+        List<DispatchRecord> records = new ArrayList<>(CAPACITY);
+        CURRENT.get().readTo(records);
+        return Collections.unmodifiableList(records);
+    }
+
+    /**
+     * 导出所有线程最近的调度记录，导出期间各线程的调度不受影响，正被改写的记录会被跳过。
+     *
+     * @return 按结束时间排列的调度记录
+     */
+    @NotNull
+    public static List<DispatchRecord> dump() {
+        List<DispatchRecord> records = new ArrayList<>();
+        for (DispatchRing ring : RINGS) {
+            ring.readTo(records);
+        }
+        records.sort(Comparator.comparingLong(DispatchRecord::getTimestamp));
+        return Collections.unmodifiableList(records);
+    }
+
+    /**
+     * @param thread 需要导出记录的线程
+     * @return 该线程最近的调度记录，该线程从未调度过时为空列表
+     */
+    @NotNull
+    public static List<DispatchRecord> dump(@NotNull Thread thread) {
+        AssertUtils.notNull(thread, "无效的线程");
+        if (thread == Thread.currentThread()) {
+            return recent();
+        }
+        List<DispatchRecord> records = new ArrayList<>(CAPACITY);
+        for (DispatchRing ring : RINGS) {
+            if (ring.isOwnedBy(thread)) {
+                ring.readTo(records);
+            }
+        }
+        return Collections.unmodifiableList(records);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.history;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.action.ActionInterceptor;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>DispatchRecord</p>
+ *
+ * <p>
+ * 一次调度的不可变记录，由 {@link DispatchHistory} 在导出时从各线程的环形缓冲区中复制得到。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 21:10</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class DispatchRecord {
+
+    private final String threadName;
+    private final long sequence;
+    private final long timestamp;
+    private final long duration;
+    private final List<String> tokens;
+    private final String path;
+    private final int cursor;
+    private final Outcome outcome;
+    private final ActionInterceptor interceptor;
+    private final Throwable error;
+
+    DispatchRecord(@NotNull String threadName, long sequence, long timestamp, long duration, @NotNull String[] tokens,
+                   @NotNull String path, int cursor, @NotNull Outcome outcome, @Nullable Object cause) {
+        this.threadName = threadName;
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.tokens = Collections.unmodifiableList(Arrays.asList(tokens));
+        this.path = path;
+        this.cursor = cursor;
+        this.outcome = outcome;
+        this.interceptor = cause instanceof ActionInterceptor ? (ActionInterceptor) cause : null;
+        this.error = cause instanceof Throwable ? (Throwable) cause : null;
+    }
+
+    @NotNull
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * @return 该调度在其线程中的序号，从 1 开始
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return 调度结束时的毫秒时间戳
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return 调度耗时，单位为纳秒
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    @NotNull
+    public List<String> getTokens() {
+        return tokens;
+    }
+
+    /**
+     * @return 调度到达的命令的路径，参数不匹配时为未能接受下一个参数的命令
+     */
+    @NotNull
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return 已被接受的参数数量，参数不匹配时即为被拒绝的参数的下标
+     */
+    public int getCursor() {
+        return cursor;
+    }
+
+    @NotNull
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * @return 参数不匹配时被所有子命令的参数接收器拒绝的参数，其他情况下为 null
+     */
+    @Nullable
+    public String getRejectedToken() {
+        return outcome == Outcome.MISMATCHED && cursor < tokens.size() ? tokens.get(cursor) : null;
+    }
+
+    /**
+     * @return 结果为 {@link Outcome#INTERCEPTED} 时拦截了执行的拦截器
+     */
+    @Nullable
+    public ActionInterceptor getInterceptor() {
+        return interceptor;
+    }
+
+    /**
+     * @return 结果为 {@link Outcome#ERROR} 时命令执行器抛出的异常
+     */
+    @Nullable
+    public Throwable getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+                .append(Instant.ofEpochMilli(timestamp)).append(' ')
+                .append(threadName).append('#').append(sequence).append(' ')
+                .append('[').append(path).append("] ")
+                .append(tokens).append(' ')
+                .append(outcome).append(' ')
+                .append(duration / 1000).append("μs");
+        switch (outcome) {
+            case MISMATCHED:
+                builder.append(" 未被接受的参数：").append(getRejectedToken());
+                break;
+            case INTERCEPTED:
+                builder.append(" 拦截器：").append(interceptor == null ? null : interceptor.getClass().getName());
+                break;
+            case ERROR:
+                builder.append(" 异常：").append(error);
+                break;
+            default:
+                break;
+        }
+        return builder.toString();
+    }
+
+    public enum Outcome {
+        /**
+         * 命令执行器返回 true
+         */
+        SUCCEEDED,
+        /**
+         * 命令执行器返回 false
+         */
+        FAILED,
+        /**
+         * 参数未能全部被命令树接受
+         */
+        MISMATCHED,
+        /**
+         * 到达的命令的拦截器拦截了执行
+         */
+        INTERCEPTED,
+        /**
+         * 到达的命令没有命令执行器
+         */
+        UNHANDLED,
+        /**
+         * 命令执行器抛出了异常
+         */
+        ERROR
+    }
+}
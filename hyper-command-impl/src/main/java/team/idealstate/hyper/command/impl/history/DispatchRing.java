@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.history;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>DispatchRing</p>
+ *
+ * <p>
+ * 单个线程最近若干次调度的环形缓冲区，只由所属线程写入，可被任意线程读取。
+ * 槽位的各字段预先分配为原子数组，写入时先以 volatile 写入将序号置 0，保证它先于之后的任何字段可见，
+ * 再依次有序写入各字段，最后以有序写入发布新的序号；
+ * 读取时在复制字段前后各读取一次序号，两次不一致或为 0 说明该槽位正被改写，直接跳过。
+ * 整个过程不加锁，也不会创建任何对象。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 21:10</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class DispatchRing {
+
+    private static final DispatchRecord.Outcome[] OUTCOMES = DispatchRecord.Outcome.values();
+
+    private final WeakReference<Thread> thread;
+    private final String threadName;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicLongArray timestamps;
+    private final AtomicLongArray durations;
+    private final AtomicReferenceArray<String[]> tokens;
+    private final AtomicReferenceArray<Command> commands;
+    private final AtomicIntegerArray cursors;
+    private final AtomicIntegerArray outcomes;
+    private final AtomicReferenceArray<Object> causes;
+    // 只由所属线程读写
+    private long sequence = 0L;
+
+    DispatchRing(@NotNull Thread thread, int capacity) {
+        this.thread = new WeakReference<>(thread);
+        this.threadName = thread.getName();
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.timestamps = new AtomicLongArray(capacity);
+        this.durations = new AtomicLongArray(capacity);
+        this.tokens = new AtomicReferenceArray<>(capacity);
+        this.commands = new AtomicReferenceArray<>(capacity);
+        this.cursors = new AtomicIntegerArray(capacity);
+        this.outcomes = new AtomicIntegerArray(capacity);
+        this.causes = new AtomicReferenceArray<>(capacity);
+    }
+
+    boolean isAlive() {
+        Thread thread = this.thread.get();
+        return thread != null && thread.isAlive();
+    }
+
+    boolean isOwnedBy(@NotNull Thread thread) {
+        return this.thread.get() == thread;
+    }
+
+    void write(long timestamp, long duration, @NotNull Command command, @NotNull String[] args, int cursor,
+               @NotNull DispatchRecord.Outcome outcome, @Nullable Object cause) {
+        long sequence = ++this.sequence;
+        int index = (int) (sequence - 1) & mask;
+        // 必须是 volatile 写入，有序写入不能阻止之后的字段先于它被其他线程看到
+        sequences.set(index, 0L);
+        timestamps.lazySet(index, timestamp);
+        durations.lazySet(index, duration);
+        tokens.lazySet(index, args);
+        commands.lazySet(index, command);
+        cursors.lazySet(index, cursor);
+        outcomes.lazySet(index, outcome.ordinal());
+        causes.lazySet(index, cause);
+        sequences.lazySet(index, sequence);
+    }
+
+    /**
+     * 复制当前所有完整的记录，按序号升序排列。
+     */
+    void readTo(@NotNull List<DispatchRecord> records) {
+        Thread thread = this.thread.get();
+        String threadName = thread == null ? this.threadName : thread.getName();
+        List<DispatchRecord> read = new ArrayList<>(mask + 1);
+        for (int index = 0; index <= mask; index++) {
+            long sequence = sequences.get(index);
+            if (sequence == 0L) {
+                continue;
+            }
+            long timestamp = timestamps.get(index);
+            long duration = durations.get(index);
+            String[] args = tokens.get(index);
+            Command command = commands.get(index);
+            int cursor = cursors.get(index);
+            int outcome = outcomes.get(index);
+            Object cause = causes.get(index);
+            if (sequences.get(index) != sequence) {
+                continue;
+            }
+            read.add(new DispatchRecord(threadName, sequence, timestamp, duration, args.clone(),
+                    command.getPath(), cursor, OUTCOMES[outcome], cause));
+        }
+        read.sort(Comparator.comparingLong(DispatchRecord::getSequence));
+        records.addAll(read);
+    }
+}
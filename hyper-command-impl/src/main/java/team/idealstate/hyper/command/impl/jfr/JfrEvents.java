@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.jfr;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.action.CommandAction;
+import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
+
+import java.util.List;
+
+/**
+ * <p>JfrEvents</p>
+ *
+ * <p>
+ * 调度、补全、拦截与参数转换的 JFR 事件的入口。此处为 Java 8 下的空实现，
+ * 多版本 jar 中 {@code META-INF/versions/11} 下的同名类会在 Java 11 及以上版本中取代它并提交 {@code jdk.jfr} 事件。
+ * 每个 begin 方法在对应事件未被记录时返回 null，此时 end 方法不做任何事，因此没有正在进行的记录时不会创建任何对象。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 19:50</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class JfrEvents {
+
+    public static final String SUCCEEDED = "succeeded";
+    public static final String FAILED = "failed";
+    public static final String UNHANDLED = "unhandled";
+    public static final String MISMATCHED = "mismatched";
+    public static final String REJECTED = "rejected";
+    public static final String ERROR = "error";
+
+    /**
+     * @return 执行结果对应的事件结果，null 表示没有可执行的命令或已被拦截
+     */
+    @NotNull
+    public static String outcomeOf(@Nullable Boolean result) {
+        if (result == null) {
+            return UNHANDLED;
+        }
+        return result ? SUCCEEDED : FAILED;
+    }
+
+    @Nullable
+    public static Object beginExecute() {
+        return null;
+    }
+
+    /**
+     * @param command 调度到达的命令
+     * @param cursor  已被接受的参数数量
+     */
+    public static void endExecute(@Nullable Object event, @NotNull Command command, @NotNull String[] args, int cursor, @NotNull String outcome) {
+    }
+
+    @Nullable
+    public static Object beginComplete() {
+        return null;
+    }
+
+    /**
+     * @param command 提供补全项的命令
+     */
+    public static void endComplete(@Nullable Object event, @NotNull Command command, @NotNull String[] args, @Nullable List<String> result) {
+    }
+
+    @Nullable
+    public static Object beginIntercept() {
+        return null;
+    }
+
+    public static void endIntercept(@Nullable Object event, @NotNull Command command, @NotNull CommandAction action, int depth, boolean intercepted) {
+    }
+
+    @Nullable
+    public static Object beginConvert() {
+        return null;
+    }
+
+    public static void endConvert(@Nullable Object event, @NotNull ArgumentConvertor<?> argumentConvertor, int depth, @NotNull String outcome) {
+    }
+}
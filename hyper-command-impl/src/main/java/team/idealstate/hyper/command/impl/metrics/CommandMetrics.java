@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.spi.CommandListener;
+import team.idealstate.hyper.command.spi.CommandRecorder;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>CommandMetrics</p>
+ *
+ * <p>
+ * 按命令路径汇总调度计数与执行耗时的监听器。在 {@code META-INF/services/team.idealstate.hyper.command.spi.CommandListener}
+ * 中声明此类即可启用，之后通过 {@link #installed()} 取得实例并拉取快照。
+ * 路径相同的命令（例如冻结前后的同一命令）共用同一份计数。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 19:16</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CommandMetrics implements CommandListener {
+
+    private final Map<String, NodeMetrics> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * @return 通过 {@link java.util.ServiceLoader} 安装的实例，未安装时为 null
+     */
+    @Nullable
+    public static CommandMetrics installed() {
+        CommandListener commandListener = FastCommand.commandListener();
+        return commandListener instanceof CommandMetrics ? (CommandMetrics) commandListener : null;
+    }
+
+    @Override
+    public @NotNull CommandRecorder createRecorder(@NotNull Command command, @NotNull String path) {
+        AssertUtils.notNull(path, "无效的命令路径");
+        return nodes.computeIfAbsent(path, NodeMetrics::new);
+    }
+
+    /**
+     * @return 按路径排序的所有命令的计数快照
+     */
+    @NotNull
+    public Map<String, NodeMetrics.Snapshot> snapshot() {
+        Map<String, NodeMetrics.Snapshot> snapshot = new TreeMap<>();
+        for (NodeMetrics node : nodes.values()) {
+            snapshot.put(node.getPath(), node.snapshot());
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * @return 指定路径的计数快照，该路径尚未被记录时为 null
+     */
+    @Nullable
+    public NodeMetrics.Snapshot snapshot(@NotNull String path) {
+        AssertUtils.notNull(path, "无效的命令路径");
+        NodeMetrics node = nodes.get(path);
+        return node == null ? null : node.snapshot();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>LatencyHistogram</p>
+ *
+ * <p>
+ * 无锁的对数线性直方图，分桶方式与 HdrHistogram 相同：小于 32 的值各占一个桶，
+ * 此后每个二的幂区间再等分为 32 个桶，因此任意值的相对误差不超过 1/32。
+ * 每个桶是一个按需创建的 {@link LongAdder}，并发记录时在各自的分段上累加；
+ * 耗时通常集中于少数几个区间，实际创建的桶远少于全部的 1888 个。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 19:02</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = indexOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0L);
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long lowestOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        return (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << shift;
+    }
+
+    static long highestOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        return lowestOf(index) + (1L << shift) - 1;
+    }
+
+    public void record(long value) {
+        int index = indexOf(value);
+        LongAdder bucket = buckets.get(index);
+        if (bucket == null) {
+            bucket = new LongAdder();
+            if (!buckets.compareAndSet(index, null, bucket)) {
+                bucket = buckets.get(index);
+            }
+        }
+        bucket.increment();
+        if (value > 0L) {
+            total.add(value);
+            max.accumulate(value);
+        }
+    }
+
+    /**
+     * 各个计数器分别读取，记录与快照并发进行时，快照中的总数与各桶之和可能相差正在记录的几次。
+     */
+    @NotNull
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        int length = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            LongAdder bucket = buckets.get(i);
+            if (bucket != null) {
+                counts[i] = bucket.sum();
+                length = i + 1;
+            }
+        }
+        return new Snapshot(Arrays.copyOf(counts, length), total.sum(), max.get());
+    }
+
+    /**
+     * <p>不可变的直方图快照，可与其他快照合并。</p>
+     */
+    public static final class Snapshot {
+
+        public static final Snapshot EMPTY = new Snapshot(new long[0], 0L, 0L);
+
+        private final long[] counts;
+        private final long count;
+        private final long total;
+        private final long max;
+
+        private Snapshot(long[] counts, long total, long max) {
+            this.counts = counts;
+            long count = 0L;
+            for (long bucketCount : counts) {
+                count += bucketCount;
+            }
+            this.count = count;
+            this.total = total;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0L ? 0D : (double) total / count;
+        }
+
+        /**
+         * @param percentile 0 至 100 之间的百分位
+         * @return 不小于该百分位上的值的最小桶上界，没有任何记录时为 0
+         */
+        public long getValueAtPercentile(double percentile) {
+            AssertUtils.isTrue(percentile >= 0D && percentile <= 100D, "百分位必须在 0 至 100 之间");
+            if (count == 0L) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(percentile / 100D * count));
+            long seen = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestOf(i), max);
+                }
+            }
+            return max;
+        }
+
+        @NotNull
+        public Snapshot merge(@NotNull Snapshot other) {
+            AssertUtils.notNull(other, "无效的直方图快照");
+            long[] merged = Arrays.copyOf(counts, Math.max(counts.length, other.counts.length));
+            for (int i = 0; i < other.counts.length; i++) {
+                merged[i] += other.counts[i];
+            }
+            return new Snapshot(merged, total + other.total, Math.max(max, other.max));
+        }
+
+        @Override
+        public String toString() {
+            return "{count=" + count +
+                    ", mean=" + (long) getMean() +
+                    ", p50=" + getValueAtPercentile(50D) +
+                    ", p99=" + getValueAtPercentile(99D) +
+                    ", max=" + max +
+                    '}';
+        }
+    }
+}
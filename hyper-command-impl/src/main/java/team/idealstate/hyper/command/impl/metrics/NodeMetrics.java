@@ -0,0 +1,218 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.action.CommandAction;
+import team.idealstate.hyper.command.spi.CommandRecorder;
+import team.idealstate.hyper.commons.base.AssertUtils;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>NodeMetrics</p>
+ *
+ * <p>
+ * 单个命令路径上的计数与执行耗时，所有计数器均为 {@link LongAdder}，可被多个调度线程无锁地并发更新。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 19:10</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class NodeMetrics implements CommandRecorder {
+
+    private final String path;
+    private final LongAdder acceptHits = new LongAdder();
+    private final LongAdder acceptMisses = new LongAdder();
+    private final LongAdder executeIntercepts = new LongAdder();
+    private final LongAdder completeIntercepts = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder executionFailures = new LongAdder();
+    private final LongAdder executionErrors = new LongAdder();
+    private final LongAdder completions = new LongAdder();
+    private final LongAdder completedItems = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    NodeMetrics(@NotNull String path) {
+        this.path = path;
+    }
+
+    @NotNull
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public void recordAccept(boolean accepted) {
+        (accepted ? acceptHits : acceptMisses).increment();
+    }
+
+    @Override
+    public void recordIntercept(@NotNull CommandAction action) {
+        (action == CommandAction.EXECUTE ? executeIntercepts : completeIntercepts).increment();
+    }
+
+    @Override
+    public void recordExecute(long nanos, @Nullable Boolean result) {
+        executions.increment();
+        if (result == null) {
+            executionErrors.increment();
+        } else if (!result) {
+            executionFailures.increment();
+        }
+        latency.record(nanos);
+    }
+
+    @Override
+    public void recordComplete(int count) {
+        completions.increment();
+        completedItems.add(count);
+    }
+
+    @NotNull
+    public Snapshot snapshot() {
+        return new Snapshot(path, acceptHits.sum(), acceptMisses.sum(),
+                executeIntercepts.sum(), completeIntercepts.sum(),
+                executions.sum(), executionFailures.sum(), executionErrors.sum(),
+                completions.sum(), completedItems.sum(), latency.snapshot());
+    }
+
+    /**
+     * <p>不可变的计数快照，同一路径的快照可以合并。</p>
+     */
+    public static final class Snapshot {
+
+        private final String path;
+        private final long acceptHits;
+        private final long acceptMisses;
+        private final long executeIntercepts;
+        private final long completeIntercepts;
+        private final long executions;
+        private final long executionFailures;
+        private final long executionErrors;
+        private final long completions;
+        private final long completedItems;
+        private final LatencyHistogram.Snapshot latency;
+
+        private Snapshot(String path, long acceptHits, long acceptMisses,
+                         long executeIntercepts, long completeIntercepts,
+                         long executions, long executionFailures, long executionErrors,
+                         long completions, long completedItems, LatencyHistogram.Snapshot latency) {
+            this.path = path;
+            this.acceptHits = acceptHits;
+            this.acceptMisses = acceptMisses;
+            this.executeIntercepts = executeIntercepts;
+            this.completeIntercepts = completeIntercepts;
+            this.executions = executions;
+            this.executionFailures = executionFailures;
+            this.executionErrors = executionErrors;
+            this.completions = completions;
+            this.completedItems = completedItems;
+            this.latency = latency;
+        }
+
+        @NotNull
+        public String getPath() {
+            return path;
+        }
+
+        public long getAcceptHits() {
+            return acceptHits;
+        }
+
+        public long getAcceptMisses() {
+            return acceptMisses;
+        }
+
+        public long getExecuteIntercepts() {
+            return executeIntercepts;
+        }
+
+        public long getCompleteIntercepts() {
+            return completeIntercepts;
+        }
+
+        public long getExecutions() {
+            return executions;
+        }
+
+        /**
+         * @return 执行器返回 false 的次数
+         */
+        public long getExecutionFailures() {
+            return executionFailures;
+        }
+
+        /**
+         * @return 执行器抛出异常的次数
+         */
+        public long getExecutionErrors() {
+            return executionErrors;
+        }
+
+        public long getCompletions() {
+            return completions;
+        }
+
+        /**
+         * @return 所有补全返回的补全项数量之和
+         */
+        public long getCompletedItems() {
+            return completedItems;
+        }
+
+        /**
+         * @return 执行器耗时的分布，单位为纳秒
+         */
+        @NotNull
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        @NotNull
+        public Snapshot merge(@NotNull Snapshot other) {
+            AssertUtils.notNull(other, "无效的计数快照");
+            AssertUtils.isTrue(path.equals(other.path), "只能合并同一路径的计数快照");
+            return new Snapshot(path, acceptHits + other.acceptHits, acceptMisses + other.acceptMisses,
+                    executeIntercepts + other.executeIntercepts, completeIntercepts + other.completeIntercepts,
+                    executions + other.executions, executionFailures + other.executionFailures,
+                    executionErrors + other.executionErrors, completions + other.completions,
+                    completedItems + other.completedItems, latency.merge(other.latency));
+        }
+
+        @Override
+        public String toString() {
+            return "NodeMetrics{" +
+                    "path='" + path + '\'' +
+                    ", acceptHits=" + acceptHits +
+                    ", acceptMisses=" + acceptMisses +
+                    ", executeIntercepts=" + executeIntercepts +
+                    ", completeIntercepts=" + completeIntercepts +
+                    ", executions=" + executions +
+                    ", executionFailures=" + executionFailures +
+                    ", executionErrors=" + executionErrors +
+                    ", completions=" + completions +
+                    ", completedItems=" + completedItems +
+                    ", latency=" + latency +
+                    '}';
+        }
+    }
+}
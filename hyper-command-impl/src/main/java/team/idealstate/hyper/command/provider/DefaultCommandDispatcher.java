@@ -0,0 +1,141 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.provider;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.DispatchResult;
+import team.idealstate.hyper.command.impl.history.DispatchHistory;
+import team.idealstate.hyper.command.impl.jfr.JfrEvents;
+import team.idealstate.hyper.command.spi.CommandDispatcher;
+
+import java.util.List;
+
+/**
+ * <p>DefaultCommandDispatcher</p>
+ *
+ * <p>
+ * 以游标自上而下单次遍历命令树，命令深度直接取自游标，而不再由各节点沿父命令链推算。
+ * 每次调度与补全都由 {@link JfrEvents} 记录为一个 JFR 事件，每次调度还会写入 {@link DispatchHistory}。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 10:08</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class DefaultCommandDispatcher implements CommandDispatcher {
+
+    private static final int SUGGESTION_LIMIT = 5;
+
+    private static int cursorOf(@NotNull Command command) {
+        return command.isRoot() ? 0 : command.getDepth() + 1;
+    }
+
+    @Override
+    public @Nullable List<String> complete(@NotNull CommandContext context, @NotNull Command command, @NotNull String[] args) {
+        Object event = JfrEvents.beginComplete();
+        int cursor = cursorOf(command);
+        for (; cursor < args.length; cursor++) {
+            Command acceptedCommand = command.accept(context, args, cursor);
+            if (acceptedCommand == null) {
+                break;
+            }
+            command = acceptedCommand;
+        }
+        List<String> result = command.complete(context, args, cursor);
+        JfrEvents.endComplete(event, command, args, result);
+        return result;
+    }
+
+    @Override
+    public @Nullable List<String> complete(@NotNull CommandContext context, @NotNull Command command, @NotNull String[] args, int limit) {
+        Object event = JfrEvents.beginComplete();
+        int cursor = cursorOf(command);
+        for (; cursor < args.length; cursor++) {
+            Command acceptedCommand = command.accept(context, args, cursor);
+            if (acceptedCommand == null) {
+                break;
+            }
+            command = acceptedCommand;
+        }
+        List<String> result = command.complete(context, args, cursor, limit);
+        JfrEvents.endComplete(event, command, args, result);
+        return result;
+    }
+
+    @Override
+    public @Nullable Boolean execute(@NotNull CommandContext context, @NotNull Command command, @NotNull String[] args) {
+        long start = DispatchHistory.begin();
+        Object event = JfrEvents.beginExecute();
+        int cursor = cursorOf(command);
+        String outcome = JfrEvents.ERROR;
+        // 参数接受器与转换器同样可能抛出异常，整个解析过程都需要记录
+        try {
+            for (; cursor < args.length; cursor++) {
+                Command acceptedCommand = command.accept(context, args, cursor);
+                if (acceptedCommand == null) {
+                    outcome = JfrEvents.MISMATCHED;
+                    DispatchHistory.recordMismatch(start, command, args, cursor);
+                    return null;
+                }
+                command = acceptedCommand;
+            }
+            Boolean result = command.execute(context, args, cursor);
+            outcome = JfrEvents.outcomeOf(result);
+            DispatchHistory.recordExecute(start, command, args, cursor, result);
+            return result;
+        } catch (Throwable e) {
+            DispatchHistory.recordError(start, command, args, cursor, e);
+            throw e;
+        } finally {
+            JfrEvents.endExecute(event, command, args, cursor, outcome);
+        }
+    }
+
+    @Override
+    public @NotNull DispatchResult dispatch(@NotNull CommandContext context, @NotNull Command command, @NotNull String[] args) {
+        long start = DispatchHistory.begin();
+        Object event = JfrEvents.beginExecute();
+        int cursor = cursorOf(command);
+        String outcome = JfrEvents.ERROR;
+        try {
+            for (; cursor < args.length; cursor++) {
+                Command acceptedCommand = command.accept(context, args, cursor);
+                if (acceptedCommand == null) {
+                    List<String> suggestions = command.suggest(context, args, cursor, SUGGESTION_LIMIT);
+                    outcome = JfrEvents.MISMATCHED;
+                    DispatchHistory.recordMismatch(start, command, args, cursor);
+                    return DispatchResult.mismatched(cursor, suggestions);
+                }
+                command = acceptedCommand;
+            }
+            Boolean result = command.execute(context, args, cursor);
+            outcome = JfrEvents.outcomeOf(result);
+            DispatchHistory.recordExecute(start, command, args, cursor, result);
+            return DispatchResult.of(result);
+        } catch (Throwable e) {
+            DispatchHistory.recordError(start, command, args, cursor, e);
+            throw e;
+        } finally {
+            JfrEvents.endExecute(event, command, args, cursor, outcome);
+        }
+    }
+}
@@ -19,15 +19,16 @@ package team.idealstate.hyper.command.provider;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import team.idealstate.hyper.command.api.Command;
-import team.idealstate.hyper.command.api.FastCommand;
-import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
 import team.idealstate.hyper.command.api.framework.CommandHandler;
 import team.idealstate.hyper.command.api.framework.annotation.RootCommand;
 import team.idealstate.hyper.command.api.framework.annotation.SubCommand;
 import team.idealstate.hyper.command.impl.CommandImpl;
-import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
-import team.idealstate.hyper.command.impl.example.ExampleUtils;
+import team.idealstate.hyper.command.impl.FrozenCommand;
+import team.idealstate.hyper.command.impl.framework.BindingPlan;
+import team.idealstate.hyper.command.impl.framework.CommandHandlerBuilder;
+import team.idealstate.hyper.command.impl.framework.CommandHandlerDispatcher;
 import team.idealstate.hyper.command.spi.CommandFactory;
 import team.idealstate.hyper.commons.base.AssertUtils;
 import team.idealstate.hyper.commons.base.StringUtils;
@@ -38,8 +39,8 @@ import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * <p>DefaultCommandFactory</p>
@@ -66,16 +67,33 @@ public final class DefaultCommandFactory implements CommandFactory {
         return new CommandImpl(description);
     }
 
-    private static boolean isToken(@NotNull String token) {
-        return token.startsWith("${") && token.endsWith("}");
-    }
-
-    private static String token(@NotNull String tokenName) {
-        return "${" + tokenName + "}";
+    @Override
+    public @NotNull Command freezeCommand(@NotNull Command command) {
+        return FrozenCommand.freeze(command);
     }
 
-    private static String tokenName(@NotNull String token) {
-        return token.substring(2, token.length() - 1);
+    @Nullable
+    private static Command createGeneratedCommand(@NotNull Class<? extends CommandHandler> commandHandlerClass) {
+        String dispatcherName = CommandHandlerDispatcher.nameOf(commandHandlerClass);
+        Class<?> dispatcherClass;
+        try {
+            dispatcherClass = Class.forName(dispatcherName, true, commandHandlerClass.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        if (!CommandHandlerDispatcher.class.isAssignableFrom(dispatcherClass)) {
+            logger.warn("无效的命令调度器类型 {}，将以反射方式创建命令", dispatcherName);
+            return null;
+        }
+        CommandHandlerDispatcher dispatcher;
+        try {
+            MethodHandle constructor = MethodHandles.lookup().findConstructor(dispatcherClass, MethodType.methodType(void.class));
+            dispatcher = (CommandHandlerDispatcher) constructor.invoke();
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+        logger.debug("使用已生成的命令调度器 {}", dispatcherName);
+        return dispatcher.createCommand();
     }
 
     @Override
@@ -86,7 +104,24 @@ public final class DefaultCommandFactory implements CommandFactory {
         if (rootCommand == null) {
             throw new IllegalStateException("未标记 @RootCommand 的命令处理器类型 " + commandHandlerClassName);
         }
+        Command generated = createGeneratedCommand(commandHandlerClass);
+        if (generated != null) {
+            return generated;
+        }
+        return createReflectiveCommand(commandHandlerClass);
+    }
 
+    /**
+     * 始终以反射方式扫描与调用子命令方法创建命令，即使存在已生成的命令调度器。
+     */
+    @NotNull
+    public Command createReflectiveCommand(@NotNull Class<? extends CommandHandler> commandHandlerClass) {
+        AssertUtils.notNull(commandHandlerClass, "无效的命令处理器类型");
+        RootCommand rootCommand = commandHandlerClass.getDeclaredAnnotation(RootCommand.class);
+        String commandHandlerClassName = commandHandlerClass.getName();
+        if (rootCommand == null) {
+            throw new IllegalStateException("未标记 @RootCommand 的命令处理器类型 " + commandHandlerClassName);
+        }
         MethodHandles.Lookup lookup = MethodHandles.lookup();
         CommandHandler commandHandler;
         try {
@@ -95,11 +130,11 @@ public final class DefaultCommandFactory implements CommandFactory {
         } catch (Throwable e) {
             throw new RuntimeException(e);
         }
-        String rootDescription = rootCommand.value();
-        Command root = FastCommand.command(rootDescription)
-                .exampleProvider(ExampleUtils.singleton(rootDescription))
-                .argumentAcceptor(AcceptorUtils.isEquals(rootDescription));
-        for (Method method : commandHandlerClass.getDeclaredMethods()) {
+        CommandHandlerBuilder builder = new CommandHandlerBuilder(commandHandler, rootCommand.value());
+        Method[] methods = commandHandlerClass.getDeclaredMethods();
+        // getDeclaredMethods 的顺序未作规定，按方法名与签名排序，使重复表达式的取舍不随 JVM 变化
+        Arrays.sort(methods, Comparator.comparing(Method::getName).thenComparing(Method::toString));
+        for (Method method : methods) {
             if (!Modifier.isPublic(method.getModifiers())) {
                 continue;
             }
@@ -116,75 +151,30 @@ public final class DefaultCommandFactory implements CommandFactory {
                 continue;
             }
             Parameter[] parameters = method.getParameters();
-            Map<String, Parameter> parameterMap = new HashMap<>(parameters.length);
-            for (Parameter parameter : parameters) {
-                parameterMap.put(parameter.getName(), parameter);
+            String[] parameterNames = new String[parameters.length];
+            Class<?>[] parameterTypes = new Class<?>[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                parameterNames[i] = parameters[i].getName();
+                parameterTypes[i] = parameters[i].getType();
             }
-
-            Command parent = null;
-            String[] arguments = expression.split(" ", -1);
-            for (String token : arguments) {
-                Command command = FastCommand.command(token);
-                if (parent == null) {
-                    root.subCommand(command);
-                } else {
-                    parent.subCommand(command);
-                }
-                parent = command;
-                if (isToken(token)) {
-                    String tokenName = tokenName(token);
-                    command.argumentAcceptor(context -> {
-                        String argument = context.getArgument();
-                        Parameter parameter = parameterMap.get(tokenName);
-                        if (parameter != null) {
-                            Class<?> type = parameter.getType();
-                            ArgumentConvertor<?> argumentConvertor = commandHandler.findArgumentConvertor(type);
-                            String typeName = type.getName();
-                            if (argumentConvertor == null) {
-                                logger.debug("[Command]({}) 参数转换：未找到与参数类型 {} 匹配的转换器", token, typeName);
-                                return false;
-                            }
-                            Object converted;
-                            try {
-                                converted = argumentConvertor.convert(context, argument);
-                            } catch (Throwable e) {
-                                logger.debug("[Command]({}) 参数转换：无法将参数值 '{}' 转换为 {} 类型值", token, argument, typeName);
-                                logger.debug("catching", e);
-                                return false;
-                            }
-                            context.put(token, converted);
-                            return true;
-                        }
-                        logger.debug("[Command]({}) 参数转换：未找到与命令参数 '{}' 匹配的方法参数", token, tokenName);
-                        return false;
-                    });
-                } else {
-                    command.exampleProvider(ExampleUtils.singleton(token))
-                            .argumentAcceptor(AcceptorUtils.isEquals(token));
-                }
-            }
-            if (parent == null) {
-                throw new IllegalStateException("无效的子命令表达式 " + expression);
-            }
-            MethodHandle methodHandle;
+            BindingPlan bindingPlan = BindingPlan.of(expression, parameterNames, parameterTypes);
+            // 展开为 (Object[])boolean 的精确签名，执行时以 invokeExact 调用，避免 invokeWithArguments 的逐次适配
+            MethodHandle invoker;
             try {
-                methodHandle = lookup.unreflect(method).bindTo(commandHandler);
+                invoker = lookup.unreflect(method).bindTo(commandHandler)
+                        .asSpreader(Object[].class, parameters.length)
+                        .asType(MethodType.methodType(boolean.class, Object[].class));
             } catch (IllegalAccessException e) {
                 throw new RuntimeException(e);
             }
-            parent.commandExecutor(context -> {
-                Object[] argumentObjects = new Object[parameters.length];
-                for (int i = 0; i < parameters.length; i++) {
-                    Parameter parameter = parameters[i];
-                    argumentObjects[i] = context.getValue(token(parameter.getName()), parameter.getType());
-                }
+            builder.subCommand(method.getName(), expression, parameterNames, parameterTypes, context -> {
                 try {
-                    return (boolean) methodHandle.invokeWithArguments(argumentObjects);
+                    return (boolean) invoker.invokeExact(bindingPlan.bind(context));
                 } catch (Throwable e) {
                     throw new RuntimeException(e);
                 }
             });
         }
-        return root;
+        return builder.build();
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * <p>ExecuteEvent</p>
+ *
+ * <p>创建于 2026/10/18 19:56</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name("team.idealstate.hyper.command.Execute")
+@Label("Command Execute")
+@Category("Hyper Command")
+@StackTrace(false)
+final class ExecuteEvent extends Event {
+
+    @Label("Path")
+    @Description("调度到达的命令的路径")
+    String path;
+
+    @Label("Argument Count")
+    int argumentCount;
+
+    @Label("Accepted Count")
+    @Description("已被接受的参数数量")
+    int acceptedCount;
+
+    @Label("Outcome")
+    String outcome;
+}
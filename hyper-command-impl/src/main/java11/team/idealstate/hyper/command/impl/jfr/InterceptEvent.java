@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * <p>InterceptEvent</p>
+ *
+ * <p>创建于 2026/10/18 20:00</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name("team.idealstate.hyper.command.Intercept")
+@Label("Command Intercept")
+@Category("Hyper Command")
+@StackTrace(false)
+final class InterceptEvent extends Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("Action")
+    String action;
+
+    @Label("Depth")
+    int depth;
+
+    @Label("Intercepted")
+    boolean intercepted;
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.jfr;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.action.CommandAction;
+import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
+
+import java.util.List;
+
+/**
+ * <p>JfrEvents</p>
+ *
+ * <p>
+ * Java 11 及以上版本中的实现。所有对 {@code jdk.jfr} 的引用都位于 {@link JfrSupport} 中，
+ * 首次使用时才加载；运行时缺少 {@code jdk.jfr} 模块（例如经 jlink 裁剪的运行时）而无法加载时，
+ * 退化为与 Java 8 相同的空实现，不影响调度。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 19:50</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class JfrEvents {
+
+    public static final String SUCCEEDED = "succeeded";
+    public static final String FAILED = "failed";
+    public static final String UNHANDLED = "unhandled";
+    public static final String MISMATCHED = "mismatched";
+    public static final String REJECTED = "rejected";
+    public static final String ERROR = "error";
+
+    private static final boolean AVAILABLE = available();
+
+    private static boolean available() {
+        try {
+            return JfrSupport.isLoaded();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    @NotNull
+    public static String outcomeOf(@Nullable Boolean result) {
+        if (result == null) {
+            return UNHANDLED;
+        }
+        return result ? SUCCEEDED : FAILED;
+    }
+
+    @Nullable
+    public static Object beginExecute() {
+        return AVAILABLE ? JfrSupport.beginExecute() : null;
+    }
+
+    public static void endExecute(@Nullable Object event, @NotNull Command command, @NotNull String[] args, int cursor, @NotNull String outcome) {
+        if (event != null) {
+            JfrSupport.endExecute(event, command, args, cursor, outcome);
+        }
+    }
+
+    @Nullable
+    public static Object beginComplete() {
+        return AVAILABLE ? JfrSupport.beginComplete() : null;
+    }
+
+    public static void endComplete(@Nullable Object event, @NotNull Command command, @NotNull String[] args, @Nullable List<String> result) {
+        if (event != null) {
+            JfrSupport.endComplete(event, command, args, result);
+        }
+    }
+
+    @Nullable
+    public static Object beginIntercept() {
+        return AVAILABLE ? JfrSupport.beginIntercept() : null;
+    }
+
+    public static void endIntercept(@Nullable Object event, @NotNull Command command, @NotNull CommandAction action, int depth, boolean intercepted) {
+        if (event != null) {
+            JfrSupport.endIntercept(event, command, action, depth, intercepted);
+        }
+    }
+
+    @Nullable
+    public static Object beginConvert() {
+        return AVAILABLE ? JfrSupport.beginConvert() : null;
+    }
+
+    public static void endConvert(@Nullable Object event, @NotNull ArgumentConvertor<?> argumentConvertor, int depth, @NotNull String outcome) {
+        if (event != null) {
+            JfrSupport.endConvert(event, argumentConvertor, depth, outcome);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.jfr;
+
+import jdk.jfr.EventType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.action.CommandAction;
+import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
+
+import java.util.List;
+
+/**
+ * <p>JfrSupport</p>
+ *
+ * <p>
+ * 先以缓存的 {@link EventType} 判断事件是否正被记录，未被记录时不创建事件对象；
+ * 命令路径等字段只在事件确定要提交时才计算。缺少 {@code jdk.jfr} 模块时此类无法初始化，
+ * 由 {@link JfrEvents} 负责回退。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 19:50</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class JfrSupport {
+
+    private static final EventType EXECUTE = EventType.getEventType(ExecuteEvent.class);
+    private static final EventType COMPLETE = EventType.getEventType(CompleteEvent.class);
+    private static final EventType INTERCEPT = EventType.getEventType(InterceptEvent.class);
+    private static final EventType CONVERT = EventType.getEventType(ConvertEvent.class);
+
+    private JfrSupport() {
+    }
+
+    /**
+     * 触发此类的初始化，缺少 {@code jdk.jfr} 模块时抛出 {@link LinkageError}。
+     */
+    static boolean isLoaded() {
+        return EXECUTE != null;
+    }
+
+    @Nullable
+    static Object beginExecute() {
+        if (!EXECUTE.isEnabled()) {
+            return null;
+        }
+        ExecuteEvent event = new ExecuteEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endExecute(@NotNull Object event, @NotNull Command command, @NotNull String[] args, int cursor, @NotNull String outcome) {
+        ExecuteEvent executeEvent = (ExecuteEvent) event;
+        executeEvent.end();
+        if (executeEvent.shouldCommit()) {
+            executeEvent.path = command.getPath();
+            executeEvent.argumentCount = args.length;
+            executeEvent.acceptedCount = cursor;
+            executeEvent.outcome = outcome;
+            executeEvent.commit();
+        }
+    }
+
+    @Nullable
+    static Object beginComplete() {
+        if (!COMPLETE.isEnabled()) {
+            return null;
+        }
+        CompleteEvent event = new CompleteEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endComplete(@NotNull Object event, @NotNull Command command, @NotNull String[] args, @Nullable List<String> result) {
+        CompleteEvent completeEvent = (CompleteEvent) event;
+        completeEvent.end();
+        if (completeEvent.shouldCommit()) {
+            completeEvent.path = command.getPath();
+            completeEvent.argumentCount = args.length;
+            completeEvent.resultCount = result == null ? 0 : result.size();
+            completeEvent.commit();
+        }
+    }
+
+    @Nullable
+    static Object beginIntercept() {
+        if (!INTERCEPT.isEnabled()) {
+            return null;
+        }
+        InterceptEvent event = new InterceptEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endIntercept(@NotNull Object event, @NotNull Command command, @NotNull CommandAction action, int depth, boolean intercepted) {
+        InterceptEvent interceptEvent = (InterceptEvent) event;
+        interceptEvent.end();
+        if (interceptEvent.shouldCommit()) {
+            interceptEvent.path = command.getPath();
+            interceptEvent.action = action.name();
+            interceptEvent.depth = depth;
+            interceptEvent.intercepted = intercepted;
+            interceptEvent.commit();
+        }
+    }
+
+    @Nullable
+    static Object beginConvert() {
+        if (!CONVERT.isEnabled()) {
+            return null;
+        }
+        ConvertEvent event = new ConvertEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endConvert(@NotNull Object event, @NotNull ArgumentConvertor<?> argumentConvertor, int depth, @NotNull String outcome) {
+        ConvertEvent convertEvent = (ConvertEvent) event;
+        convertEvent.end();
+        if (convertEvent.shouldCommit()) {
+            convertEvent.convertor = argumentConvertor.getClass();
+            convertEvent.depth = depth;
+            convertEvent.outcome = outcome;
+            convertEvent.commit();
+        }
+    }
+}
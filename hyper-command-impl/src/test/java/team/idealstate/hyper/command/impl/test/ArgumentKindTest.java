@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.api.argument.ArgumentKind;
+import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
+import team.idealstate.hyper.command.api.framework.CommandHandler;
+import team.idealstate.hyper.command.api.framework.StandardConvertors;
+import team.idealstate.hyper.command.api.framework.annotation.RootCommand;
+import team.idealstate.hyper.command.api.framework.annotation.SubCommand;
+import team.idealstate.hyper.command.impl.CommandContextImpl;
+import team.idealstate.hyper.command.provider.DefaultCommandFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>ArgumentKindTest</p>
+ *
+ * <p>创建于 2026/10/19 10:10</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ArgumentKindTest {
+
+    private static final Logger logger = LogManager.getLogger(ArgumentKindTest.class);
+
+    private static final AtomicReference<String> RESULT = new AtomicReference<>(null);
+    private static final CountingConvertor<Integer> INT = new CountingConvertor<>(StandardConvertors.findArgumentConvertor(int.class));
+    private static final CountingConvertor<Double> DOUBLE = new CountingConvertor<>(StandardConvertors.findArgumentConvertor(double.class));
+
+    private static final String[] ARGUMENTS = {
+            "", " ", "0", "-7", "+7", "99999999999999999999", "2.5", ".5", "1e3", "1e", "true", "FALSE",
+            "NaN", "Infinity", "0x1p3", "abc", " 1", "1 ", "1.5f", "١٢"
+    };
+
+    private static final Class<?>[] TYPES = {
+            byte.class, short.class, int.class, long.class, float.class, double.class,
+            BigInteger.class, BigDecimal.class, boolean.class, char.class, String.class
+    };
+
+    @Test
+    public void testConvertible() {
+        if (!ArgumentKind.classify("12").isConvertibleTo(int.class)
+                || ArgumentKind.classify("2.5").isConvertibleTo(int.class)
+                || ArgumentKind.classify("abc").isConvertibleTo(long.class)
+                || ArgumentKind.classify("true").isConvertibleTo(double.class)
+                || !ArgumentKind.classify("2.5").isConvertibleTo(BigDecimal.class)
+                || ArgumentKind.classify(" ").isConvertibleTo(String.class)) {
+            throw new IllegalStateException("预期结果应为 按参数分类排除不可能的转换");
+        }
+        // 预先排除必须是可靠的：被排除的参数，标准转换器也必定无法转换
+        CommandContext context = new CommandContextImpl();
+        int rejected = 0;
+        for (String argument : ARGUMENTS) {
+            ArgumentKind kind = ArgumentKind.classify(argument);
+            for (Class<?> type : TYPES) {
+                if (kind.isConvertibleTo(type)) {
+                    continue;
+                }
+                rejected++;
+                Object converted = StandardConvertors.findArgumentConvertor(type).tryConvert(context, argument);
+                if (converted != ArgumentConvertor.REJECTED) {
+                    throw new IllegalStateException("预期结果应为 " + type.getSimpleName() + " 无法转换 '" + argument + "'");
+                }
+            }
+        }
+        logger.info("预先排除的转换：{} 项", rejected);
+    }
+
+    @Test
+    public void testConvertOnce() {
+        DefaultCommandFactory commandFactory = new DefaultCommandFactory();
+        Command[] commands = {
+                FastCommand.root("主命令").subCommand(commandFactory.createReflectiveCommand(TypedCommand.class)),
+                FastCommand.root("主命令").subCommand(FastCommand.command(TypedCommand.class))
+        };
+        for (Command command : commands) {
+            // 两个 int 参数共用一个转换器，第二个直接复用第一个的失败结果，double 参数只解析一次
+            assertConverted(command, "2.5", "double:2.5", 1, 1);
+            assertConverted(command, "7", "int:7", 1, 0);
+            assertConverted(command, "abc", "text:abc", 1, 1);
+        }
+    }
+
+    private static void assertConverted(Command command, String argument, String expected, int intCount, int doubleCount) {
+        INT.count.set(0);
+        DOUBLE.count.set(0);
+        RESULT.set(null);
+        Boolean executed = FastCommand.execute(command, new String[]{"typed", argument});
+        logger.info("{} -> {}，{}，int 转换 {} 次，double 转换 {} 次", argument, executed, RESULT.get(), INT.count, DOUBLE.count);
+        if (!Boolean.TRUE.equals(executed) || !expected.equals(RESULT.get())) {
+            throw new IllegalStateException("预期结果应为 " + expected);
+        }
+        if (INT.count.get() != intCount || DOUBLE.count.get() != doubleCount) {
+            throw new IllegalStateException("预期结果应为 int 转换 " + intCount + " 次，double 转换 " + doubleCount + " 次");
+        }
+    }
+
+    private static final class CountingConvertor<R> implements ArgumentConvertor<R> {
+
+        private final ArgumentConvertor<R> convertor;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private CountingConvertor(ArgumentConvertor<R> convertor) {
+            this.convertor = convertor;
+        }
+
+        @Override
+        public @Nullable R convert(@NotNull CommandContext context, @NotNull String argument) throws Throwable {
+            count.incrementAndGet();
+            return convertor.convert(context, argument);
+        }
+
+        @Override
+        public @Nullable Object tryConvert(@NotNull CommandContext context, @NotNull String argument) {
+            count.incrementAndGet();
+            return convertor.tryConvert(context, argument);
+        }
+    }
+
+    @RootCommand("typed")
+    public static class TypedCommand implements CommandHandler {
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R> ArgumentConvertor<R> findArgumentConvertor(@NotNull Class<R> argumentType) {
+            if (int.class.equals(argumentType)) {
+                return (ArgumentConvertor<R>) INT;
+            }
+            if (double.class.equals(argumentType)) {
+                return (ArgumentConvertor<R>) DOUBLE;
+            }
+            return CommandHandler.super.findArgumentConvertor(argumentType);
+        }
+
+        @SubCommand("${first}")
+        public boolean first(int first) {
+            RESULT.set("int:" + first);
+            return true;
+        }
+
+        @SubCommand("${second} more")
+        public boolean second(int second) {
+            RESULT.set("second:" + second);
+            return true;
+        }
+
+        @SubCommand("${decimal}")
+        public boolean decimal(double decimal) {
+            RESULT.set("double:" + decimal);
+            return true;
+        }
+
+        @SubCommand("${text}")
+        public boolean text(String text) {
+            RESULT.set("text:" + text);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.impl.StringIndex;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+import team.idealstate.hyper.command.impl.example.ExampleUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>BoundedCompletionTest</p>
+ *
+ * <p>创建于 2026/10/18 18:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BoundedCompletionTest {
+
+    private static final Logger logger = LogManager.getLogger(BoundedCompletionTest.class);
+
+    @Test
+    public void testBoundedCompletion() {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            items.add("item_" + i);
+        }
+        AtomicInteger listed = new AtomicInteger();
+        Command root = FastCommand.root("root");
+        root.subCommand(FastCommand.command("give")
+                .exampleProvider(ExampleUtils.singleton("give"))
+                .argumentAcceptor(AcceptorUtils.isEquals("give"))
+                .subCommand(FastCommand.command("item")
+                        .exampleProvider(ExampleUtils.collection(items))
+                        .argumentAcceptor(AcceptorUtils.isContains(items)))
+                .subCommand(FastCommand.command("list")
+                        .exampleProvider(context -> {
+                            listed.incrementAndGet();
+                            return Arrays.asList("ITEM_X", "all");
+                        })
+                        .argumentAcceptor(AcceptorUtils.isEquals("all"))));
+        String[][] inputs = {{"give", ""}, {"give", "item_1"}, {"give", "a"}, {"give", "Item_99"}, {"give", "zzz"}};
+        for (String[] input : inputs) {
+            List<String> expected = FastCommand.complete(root, input);
+            List<String> actual = FastCommand.complete(root, input, 20);
+            if (expected != null && expected.size() > 20) {
+                expected = expected.subList(0, 20);
+            }
+            if (!Objects.equals(expected, actual)) {
+                throw new IllegalStateException("预期结果应为 " + expected);
+            }
+            logger.info("补全 {}：{}", input[1], actual);
+        }
+        listed.set(0);
+        FastCommand.complete(root, new String[]{"give", "item_"}, 20);
+        if (listed.get() != 0) {
+            throw new IllegalStateException("预期结果应为 凑满后不再请求示例");
+        }
+    }
+
+    @Test
+    public void testCompletionOrder() {
+        List<String> examples = Arrays.asList("zeta", "alpha", "zero", "apple", "zed");
+        List<String> expected = Arrays.asList("zeta", "zero", "zed");
+        // 无论示例是否为 StringIndex、参数是否为空，补全项都按提供的顺序排列
+        Command indexed = FastCommand.root("root").subCommand(FastCommand.command("indexed")
+                .exampleProvider(ExampleUtils.collection(examples)));
+        Command plain = FastCommand.root("root").subCommand(FastCommand.command("plain")
+                .exampleProvider(context -> examples));
+        for (Command root : Arrays.asList(indexed, plain)) {
+            List<String> completions = FastCommand.complete(root, new String[]{"z"});
+            logger.info("补全 z：{}", completions);
+            if (!expected.equals(completions)) {
+                throw new IllegalStateException("预期结果应为 " + expected);
+            }
+            if (!expected.subList(0, 2).equals(FastCommand.complete(root, new String[]{"z"}, 2))) {
+                throw new IllegalStateException("预期结果应为 " + expected.subList(0, 2));
+            }
+            if (!examples.equals(FastCommand.complete(root, new String[]{""}))) {
+                throw new IllegalStateException("预期结果应为 " + examples);
+            }
+        }
+        if (!expected.subList(0, 2).equals(StringIndex.of(examples).startsWith("z", 2))) {
+            throw new IllegalStateException("预期结果应为 " + expected.subList(0, 2));
+        }
+    }
+
+    @Test
+    public void testBoundedPrefixCost() {
+        // 打乱顺序的名称，使前缀范围内的原有顺序与字典序无关
+        List<String> names = new ArrayList<>();
+        Random random = new Random(20261019L);
+        for (int i = 0; i < 50000; i++) {
+            names.add("player" + random.nextInt(1000000));
+        }
+        names.add("zeta");
+        StringIndex index = StringIndex.of(names);
+        String[] prefixes = {"p", "player1", "player12", "player999", "z", "q"};
+        for (String prefix : prefixes) {
+            List<String> filtered = new ArrayList<>();
+            for (String name : index) {
+                if (name.startsWith(prefix)) {
+                    filtered.add(name);
+                }
+            }
+            for (int limit : new int[]{1, 2, 20, 1000, Integer.MAX_VALUE}) {
+                List<String> expected = filtered.subList(0, Math.min(limit, filtered.size()));
+                if (!expected.equals(index.startsWith(prefix, limit))) {
+                    throw new IllegalStateException("预期结果应为 " + prefix + " 的前 " + limit + " 项");
+                }
+            }
+        }
+        // 限制数量的查询分配的内存只与 limit 有关，而不是与匹配的 50000 项成比例
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            logger.info("当前虚拟机不支持统计线程分配的内存，跳过开销检查");
+            return;
+        }
+        com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threadMXBean;
+        long threadId = Thread.currentThread().getId();
+        int rounds = 100;
+        long before = allocation.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < rounds; i++) {
+            if (index.startsWith("p", 20).size() != 20) {
+                throw new IllegalStateException("预期结果应为 20 项");
+            }
+        }
+        long allocated = (allocation.getThreadAllocatedBytes(threadId) - before) / rounds;
+        logger.info("限制为 20 项的前缀查询平均分配 {} 字节", allocated);
+        if (allocated > 4096) {
+            throw new IllegalStateException("预期结果应为 分配的内存与匹配项数量无关");
+        }
+    }
+}
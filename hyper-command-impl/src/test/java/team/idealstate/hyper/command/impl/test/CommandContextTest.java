@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.ContextKey;
+import team.idealstate.hyper.command.impl.CommandContextImpl;
+
+/**
+ * <p>CommandContextTest</p>
+ *
+ * <p>创建于 2026/10/18 23:20</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CommandContextTest {
+
+    private static final Logger logger = LogManager.getLogger(CommandContextTest.class);
+
+    @Test
+    public void testMixedKeys() {
+        CommandContext context = new CommandContextImpl();
+        // 键在以名称存入值之后才创建，值仍保存在按名称存放的表中
+        context.put("mixed.remove", "name");
+        ContextKey removeKey = ContextKey.of("mixed.remove");
+        if (!"name".equals(context.getValue(removeKey))) {
+            throw new IllegalStateException("预期结果应为 name");
+        }
+        Object removed = context.remove(removeKey);
+        logger.info("按键移除：{}", removed);
+        if (!"name".equals(removed) || context.hasKey("mixed.remove") || context.getValue("mixed.remove") != null) {
+            throw new IllegalStateException("预期结果应为 按键移除后不再残留按名称存入的值");
+        }
+        if (context.getKeys().contains("mixed.remove")) {
+            throw new IllegalStateException("预期结果应为 键集合中不包含已移除的键");
+        }
+
+        context.put("mixed.put", "name");
+        ContextKey putKey = ContextKey.of("mixed.put");
+        Object replaced = context.put(putKey, "key");
+        if (!"name".equals(replaced) || !"key".equals(context.getValue("mixed.put"))) {
+            throw new IllegalStateException("预期结果应为 key");
+        }
+        context.remove(putKey);
+        if (context.hasKey("mixed.put")) {
+            throw new IllegalStateException("预期结果应为 按键写入后移除不再残留旧值");
+        }
+    }
+}
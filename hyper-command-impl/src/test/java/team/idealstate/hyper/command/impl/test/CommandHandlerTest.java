@@ -0,0 +1,176 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
+import team.idealstate.hyper.command.api.framework.CommandHandler;
+import team.idealstate.hyper.command.api.framework.annotation.RootCommand;
+import team.idealstate.hyper.command.api.framework.annotation.SubCommand;
+import team.idealstate.hyper.command.provider.DefaultCommandFactory;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>CommandHandlerTest</p>
+ *
+ * <p>创建于 2026/10/18 22:30</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CommandHandlerTest {
+
+    private static final Logger logger = LogManager.getLogger(CommandHandlerTest.class);
+
+    private static final AtomicReference<String> RESULT = new AtomicReference<>(null);
+
+    private static void assertExecuted(@NotNull Command command, @NotNull String input, @NotNull String expected) {
+        RESULT.set(null);
+        Boolean executed = FastCommand.execute(command, input.split(" ", -1));
+        logger.info("{} -> {}，{}", input, executed, RESULT.get());
+        if (!Boolean.TRUE.equals(executed) || !expected.equals(RESULT.get())) {
+            throw new IllegalStateException("预期结果应为 " + expected);
+        }
+    }
+
+    @Test
+    public void testAbsentPrimitiveToken() {
+        Command command = FastCommand.root("主命令").subCommand(FastCommand.command(GiveCommand.class));
+        assertExecuted(command, "give 3", "3");
+        // 转换器以 null 表示未给出数量，基本类型的参数应取默认值 0
+        assertExecuted(command, "give none", "0");
+    }
+
+    /**
+     * 测试源码经过注解处理器编译，{@link FastCommand#command(Class)} 总是使用生成的调度器，
+     * 此处直接以反射方式创建命令，覆盖参数绑定与方法调用的反射路径。
+     */
+    @Test
+    public void testReflectiveCommand() {
+        DefaultCommandFactory commandFactory = new DefaultCommandFactory();
+        Command give = FastCommand.root("主命令").subCommand(commandFactory.createReflectiveCommand(GiveCommand.class));
+        assertExecuted(give, "give 3", "3");
+        assertExecuted(give, "give none", "0");
+
+        // 两种方式创建的命令对相同输入的行为应当一致
+        Command[] trades = {
+                FastCommand.root("主命令").subCommand(commandFactory.createReflectiveCommand(TradeCommand.class)),
+                FastCommand.root("主命令").subCommand(FastCommand.command(TradeCommand.class))
+        };
+        for (Command trade : trades) {
+            assertExecuted(trade, "trade sell stone 64", "sell stone 64 false");
+            assertExecuted(trade, "trade buy dirt 1", "buy dirt 1 false");
+            Boolean executed = FastCommand.execute(trade, new String[]{"trade", "sell", "stone", "many"});
+            if (executed != null) {
+                throw new IllegalStateException("预期结果应为 null");
+            }
+        }
+    }
+
+    /**
+     * 通配的子命令在源码中先于字面量与更窄的类型声明，两种方式创建的命令仍应优先匹配字面量与更窄的类型。
+     */
+    @Test
+    public void testMatchingOrder() {
+        DefaultCommandFactory commandFactory = new DefaultCommandFactory();
+        Command[] overloads = {
+                FastCommand.root("主命令").subCommand(commandFactory.createReflectiveCommand(OverloadCommand.class)),
+                FastCommand.root("主命令").subCommand(FastCommand.command(OverloadCommand.class))
+        };
+        for (Command overload : overloads) {
+            assertExecuted(overload, "overload say hello", "literal");
+            assertExecuted(overload, "overload say hi", "text:hi");
+            assertExecuted(overload, "overload sum 1 2", "int:3");
+            assertExecuted(overload, "overload sum 1.5 2", "double:3.5");
+        }
+    }
+
+    @RootCommand("overload")
+    public static class OverloadCommand implements CommandHandler {
+
+        @SubCommand("say ${text}")
+        public boolean say(String text) {
+            RESULT.set("text:" + text);
+            return true;
+        }
+
+        @SubCommand("say hello")
+        public boolean sayHello() {
+            RESULT.set("literal");
+            return true;
+        }
+
+        @SubCommand("sum ${a} ${b}")
+        public boolean sum(double a, double b) {
+            RESULT.set("double:" + (a + b));
+            return true;
+        }
+
+        @SubCommand("sum ${a} ${b}")
+        public boolean sum(int a, int b) {
+            RESULT.set("int:" + (a + b));
+            return true;
+        }
+    }
+
+    @RootCommand("give")
+    public static class GiveCommand implements CommandHandler {
+
+        private static final ArgumentConvertor<Integer> OPTIONAL_INT =
+                (context, argument) -> "none".equals(argument) ? null : Integer.valueOf(argument);
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R> ArgumentConvertor<R> findArgumentConvertor(@NotNull Class<R> argumentType) {
+            if (int.class.equals(argumentType)) {
+                return (ArgumentConvertor<R>) OPTIONAL_INT;
+            }
+            return CommandHandler.super.findArgumentConvertor(argumentType);
+        }
+
+        @SubCommand("${amount}")
+        public boolean give(int amount) {
+            RESULT.set(String.valueOf(amount));
+            return true;
+        }
+    }
+
+    @RootCommand("trade")
+    public static class TradeCommand implements CommandHandler {
+
+        @SubCommand("sell ${item} ${count}")
+        public boolean sell(CommandContext context, String item, long count, boolean unbound) {
+            RESULT.set(context.getArguments()[1] + " " + item + " " + count + " " + unbound);
+            return true;
+        }
+
+        @SubCommand("buy ${item} ${count}")
+        public boolean buy(String item, Integer count, CommandContext context) {
+            RESULT.set(context.getArguments()[1] + " " + item + " " + count + " false");
+            return true;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.DispatchResult;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.api.action.CommandAction;
+import team.idealstate.hyper.command.impl.CommandRegistry;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+import team.idealstate.hyper.command.impl.example.ExampleUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>CommandRegistryTest</p>
+ *
+ * <p>创建于 2026/10/18 16:05</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CommandRegistryTest {
+
+    private static final Logger logger = LogManager.getLogger(CommandRegistryTest.class);
+
+    private static Command command(String label, AtomicReference<String> result, String value) {
+        return FastCommand.command(label)
+                .argumentAcceptor(AcceptorUtils.isEquals(label))
+                .commandExecutor(context -> {
+                    result.set(value);
+                    return true;
+                });
+    }
+
+    @Test
+    public void testRegistry() {
+        AtomicReference<String> result = new AtomicReference<>(null);
+        CommandRegistry registry = new CommandRegistry("注册表");
+        Command hello = command("hello", result, "v1");
+        registry.register(hello);
+        FastCommand.execute(registry, new String[]{"hello"});
+        if (!"v1".equals(result.getAndSet(null))) {
+            throw new IllegalStateException("预期结果应为 v1");
+        }
+        registry.replace(hello, command("hello", result, "v2"));
+        FastCommand.execute(registry, new String[]{"hello"});
+        if (!"v2".equals(result.getAndSet(null))) {
+            throw new IllegalStateException("预期结果应为 v2");
+        }
+        if (!registry.unregister(registry.getSubCommands().get(0)) || !registry.getSubCommands().isEmpty()) {
+            throw new IllegalStateException("预期结果应为 注销成功");
+        }
+        if (FastCommand.execute(registry, new String[]{"hello"}) != null) {
+            throw new IllegalStateException("预期结果应为 null");
+        }
+    }
+
+    @Test
+    public void testLabels() {
+        AtomicReference<String> result = new AtomicReference<>(null);
+        CommandRegistry registry = new CommandRegistry("注册表");
+        registry.register("demo", "hello", command("hello", result, "demo"), "hi");
+        registry.register("other", "hello", command("hello", result, "other"));
+        logger.info("可用标签：{}", registry.getLabels());
+        String[][] inputs = {{"hello"}, {"hi"}, {"demo:hello"}, {"demo:hi"}, {"other:hello"}};
+        String[] validResults = {"demo", "demo", "demo", "demo", "other"};
+        for (int i = 0; i < inputs.length; i++) {
+            FastCommand.execute(registry, inputs[i]);
+            if (!validResults[i].equals(result.getAndSet(null))) {
+                throw new IllegalStateException("预期结果应为 " + validResults[i]);
+            }
+        }
+        try {
+            registry.register("demo", "hi", command("hi", result, "duplicate"));
+            throw new IllegalStateException("预期结果应为 重复的命令标签");
+        } catch (IllegalArgumentException e) {
+            logger.info("重复注册：{}", e.getMessage());
+        }
+        // 同一批次中先注销再注册时，被释放的标签可以再次使用，批次内的重复仍会被拒绝
+        Command demo = registry.getCommand("demo:hello");
+        registry.update(editor -> {
+            if (!editor.unregister(demo)) {
+                throw new IllegalStateException("预期结果应为 已注销");
+            }
+            editor.register("demo", "hi", command("hi", result, "again"));
+            try {
+                editor.register("demo", "hey", command("hey", result, "duplicate"), "hi");
+                throw new IllegalStateException("预期结果应为 重复的命令标签");
+            } catch (IllegalArgumentException e) {
+                logger.info("批次内重复注册：{}", e.getMessage());
+            }
+        });
+        FastCommand.execute(registry, new String[]{"demo:hi"});
+        if (!"again".equals(result.getAndSet(null))) {
+            throw new IllegalStateException("预期结果应为 again");
+        }
+    }
+
+    @Test
+    public void testLabelCompletion() {
+        AtomicReference<String> result = new AtomicReference<>(null);
+        AtomicBoolean permitted = new AtomicBoolean(true);
+        CommandRegistry registry = new CommandRegistry("注册表");
+        registry.register("demo", "hello", command("hello", result, "demo"), "hi");
+        registry.register("other", "hello", command("hello", result, "other"));
+        registry.register("admin", "halt", command("halt", result, "halt")
+                .actionInterceptor((context, action) -> action == CommandAction.COMPLETE && !permitted.get()));
+        registry.register(command("help", result, "help").exampleProvider(ExampleUtils.singleton("help")));
+        // 被先注册者占用的键不会重复出现
+        List<String> expected = Arrays.asList("halt", "hello", "help", "hi");
+        String[][] inputs = {{"h"}, {"demo:"}, {"other:h"}};
+        List<?>[] validResults = {expected, Arrays.asList("demo:hello", "demo:hi"), Collections.singletonList("other:hello")};
+        for (int i = 0; i < inputs.length; i++) {
+            List<String> completed = FastCommand.complete(registry, inputs[i]);
+            List<String> streamed = FastCommand.complete(registry, inputs[i], 10);
+            logger.info("补全 {}：{}，{}", inputs[i][0], completed, streamed);
+            if (completed == null || streamed == null || !validResults[i].equals(sorted(completed))
+                    || !validResults[i].equals(sorted(streamed))) {
+                throw new IllegalStateException("预期结果应为 " + validResults[i]);
+            }
+        }
+        permitted.set(false);
+        List<String> completed = FastCommand.complete(registry, new String[]{"ha"});
+        if (completed != null && completed.contains("halt")) {
+            throw new IllegalStateException("预期结果应为 不包含 halt");
+        }
+    }
+
+    private static List<String> sorted(List<String> list) {
+        List<String> sorted = new ArrayList<>(list);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    @Test
+    public void testForeignCommand() {
+        AtomicReference<String> result = new AtomicReference<>(null);
+        CommandRegistry registry = new CommandRegistry("注册表");
+        CommandRegistry nested = new CommandRegistry("nested");
+        nested.register(command("inner", result, "inner"));
+        // 直接实现 Command 的命令，其子命令与调度方法无法经由 getter 完整复制
+        Command foreign = (Command) Proxy.newProxyInstance(Command.class.getClassLoader(), new Class<?>[]{Command.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getDescription":
+                            return "foreign";
+                        case "getSubCommands":
+                            return Collections.emptyList();
+                        case "isRoot":
+                        case "isFrozen":
+                            return false;
+                        case "getDepth":
+                            return 0;
+                        default:
+                            return null;
+                    }
+                });
+        // 无法冻结的命令（包括位于子树中的）应被拒绝，而不是静默地丢弃其子命令与自定义的调度行为
+        Command[] foreigns = {nested, foreign, command("outer", result, "outer").subCommand(foreign)};
+        for (Command command : foreigns) {
+            try {
+                registry.register(command);
+                throw new IllegalStateException("预期结果应为 无法冻结的命令");
+            } catch (IllegalArgumentException e) {
+                logger.info("注册无法冻结的命令：{}", e.getMessage());
+            }
+        }
+        if (!registry.getSubCommands().isEmpty()) {
+            throw new IllegalStateException("预期结果应为 注册表为空");
+        }
+        // 未覆盖 freeze 的命令经由命令工厂冻结，同样会被拒绝
+        try {
+            nested.freeze();
+            throw new IllegalStateException("预期结果应为 无法冻结的命令");
+        } catch (IllegalArgumentException e) {
+            logger.info("冻结无法冻结的命令：{}", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSuggestions() {
+        AtomicReference<String> result = new AtomicReference<>(null);
+        CommandRegistry registry = new CommandRegistry("注册表");
+        registry.register("demo", "teleport", command("teleport", result, "teleport"), "tp");
+        registry.update(editor -> {
+            for (int i = 0; i < 10000; i++) {
+                editor.register(command("command" + i, result, "command" + i));
+            }
+        });
+        DispatchResult dispatchResult = FastCommand.dispatch(registry, new String[]{"teleprot"});
+        logger.info("调度结果：{}", dispatchResult);
+        if (dispatchResult.isMatched() || dispatchResult.getFailedIndex() != 0
+                || !dispatchResult.getSuggestions().contains("teleport")) {
+            throw new IllegalStateException("预期结果应为 teleport");
+        }
+        dispatchResult = FastCommand.dispatch(registry, new String[]{"comand4242"});
+        if (!"command4242".equals(dispatchResult.getSuggestions().get(0))) {
+            throw new IllegalStateException("预期结果应为 command4242");
+        }
+        if (!Boolean.TRUE.equals(FastCommand.dispatch(registry, new String[]{"tp"}).getResult())) {
+            throw new IllegalStateException("预期结果应为 true");
+        }
+    }
+
+    @Test
+    public void testConcurrentRegistry() throws InterruptedException {
+        AtomicReference<String> result = new AtomicReference<>(null);
+        CommandRegistry registry = new CommandRegistry("注册表");
+        registry.register(command("stable", result, "stable"));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger failures = new AtomicInteger();
+        Thread[] dispatchers = new Thread[4];
+        for (int i = 0; i < dispatchers.length; i++) {
+            dispatchers[i] = new Thread(() -> {
+                while (running.get()) {
+                    if (!Boolean.TRUE.equals(FastCommand.execute(registry, new String[]{"stable"}))) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+            dispatchers[i].start();
+        }
+
+        registry.update(editor -> {
+            for (int i = 0; i < 1000; i++) {
+                editor.register(command("batch" + i, result, "batch" + i));
+            }
+        });
+        for (int i = 0; i < 200; i++) {
+            Command single = registry.register(command("single" + i, result, "single" + i));
+            registry.unregister(single);
+        }
+        running.set(false);
+        for (Thread dispatcher : dispatchers) {
+            dispatcher.join();
+        }
+        if (failures.get() != 0) {
+            throw new IllegalStateException("预期结果应为 调度全部成功");
+        }
+        if (registry.getSubCommands().size() != 1001) {
+            throw new IllegalStateException("预期结果应为 1001");
+        }
+        FastCommand.execute(registry, new String[]{"batch999"});
+        if (!"batch999".equals(result.get())) {
+            throw new IllegalStateException("预期结果应为 batch999");
+        }
+    }
+}
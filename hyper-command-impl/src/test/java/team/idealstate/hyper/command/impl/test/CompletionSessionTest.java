@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.api.action.CommandAction;
+import team.idealstate.hyper.command.impl.CompletionSession;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+import team.idealstate.hyper.command.impl.example.ExampleUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>CompletionSessionTest</p>
+ *
+ * <p>创建于 2026/10/18 18:00</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CompletionSessionTest {
+
+    private static final Logger logger = LogManager.getLogger(CompletionSessionTest.class);
+
+    @Test
+    public void testCompletionSession() {
+        List<String> players = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            players.add("player" + i);
+        }
+        Command root = FastCommand.root("root");
+        root.subCommand(FastCommand.command("tell")
+                .exampleProvider(ExampleUtils.singleton("tell"))
+                .argumentAcceptor(AcceptorUtils.isEquals("tell"))
+                .subCommand(FastCommand.command("player")
+                        .exampleProvider(ExampleUtils.collection(players))
+                        .argumentAcceptor(AcceptorUtils.isContains(players))
+                        .commandExecutor(context -> true)));
+        String[] typed = {"t", "te", "tell", "p", "pl", "player", "player1", "player12", "player123", "player12",
+                "x", "player4", "player49", "player499", "player4999", "player49999"};
+        String[][] inputs = new String[typed.length][];
+        for (int i = 0; i < typed.length; i++) {
+            inputs[i] = i < 3 ? new String[]{typed[i]} : new String[]{"tell", typed[i]};
+        }
+        CompletionSession session = new CompletionSession(root);
+        for (String[] input : inputs) {
+            List<String> expected = FastCommand.complete(root, input);
+            List<String> actual = session.complete(input);
+            logger.info("会话补全 {}：{} 项", String.join(" ", input), actual == null ? 0 : actual.size());
+            if (!Objects.equals(expected, actual)) {
+                throw new IllegalStateException("预期结果应为 " + expected);
+            }
+        }
+    }
+
+    @Test
+    public void testRevokedPermission() {
+        AtomicBoolean permitted = new AtomicBoolean(true);
+        Command root = FastCommand.root("root");
+        root.subCommand(FastCommand.command("kick")
+                .exampleProvider(ExampleUtils.singleton("kick"))
+                .argumentAcceptor(AcceptorUtils.isEquals("kick"))
+                .actionInterceptor((context, action) -> action == CommandAction.COMPLETE && !permitted.get())
+                .commandExecutor(context -> true));
+        root.subCommand(FastCommand.command("kill")
+                .exampleProvider(ExampleUtils.singleton("kill"))
+                .argumentAcceptor(AcceptorUtils.isEquals("kill"))
+                .commandExecutor(context -> true));
+        CompletionSession session = new CompletionSession(root);
+        List<String> actual = session.complete(new String[]{"k"});
+        if (actual == null || !actual.contains("kick")) {
+            throw new IllegalStateException("预期结果应包含 kick");
+        }
+        // 在两次按键之间收回权限，不应再从上一次的候选项中筛选出 kick
+        permitted.set(false);
+        String[] input = {"ki"};
+        List<String> expected = FastCommand.complete(root, input);
+        actual = session.complete(input);
+        logger.info("收回权限后补全 ki：{}", actual);
+        if (!Objects.equals(expected, actual)) {
+            throw new IllegalStateException("预期结果应为 " + expected);
+        }
+    }
+}
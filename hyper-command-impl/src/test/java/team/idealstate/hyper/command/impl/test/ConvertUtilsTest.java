@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
+import team.idealstate.hyper.command.api.framework.StandardConvertors;
+import team.idealstate.hyper.command.api.framework.convert.ConvertUtils;
+import team.idealstate.hyper.command.impl.CommandContextImpl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * <p>ConvertUtilsTest</p>
+ *
+ * <p>创建于 2026/10/19 9:10</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ConvertUtilsTest {
+
+    private static final Logger logger = LogManager.getLogger(ConvertUtilsTest.class);
+
+    private static final List<String> BOUNDARIES = Arrays.asList(
+            "0", "-0", "+1", "+", "-", "", " ", " 12 ", "1_000", "١٢",
+            "127", "128", "-128", "-129", "32767", "32768", "-32768", "-32769",
+            "2147483647", "2147483648", "-2147483648", "-2147483649",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+            "99999999999999999999", "NaN", "-NaN", "+Infinity", "-Infinity", "Infinity", "infinity", "NaNx",
+            "1e", "1e+", "1e-5", "1E10", "1e400", "-1e-400", ".5f", ".5", "5.", ".", "1.5d", "1.5F", "1.5x", "e5",
+            "0x1p3", "0x1.8p1", "-0X1P-2f", "0x.8p1", "0x1", "0x", "0xp1", "0x.p1", "0xzz", "0x1pz", "0x1p", "0x1p+",
+            " 0x1p3 ", "0x1p99999999999", "true", "false", "TRUE", "a", "ab"
+    );
+
+    private static final Class<?>[] TYPES = {
+            byte.class, short.class, int.class, long.class, float.class, double.class,
+            BigInteger.class, BigDecimal.class, boolean.class, char.class, String.class
+    };
+
+    private static boolean parses(Runnable parser) {
+        try {
+            parser.run();
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static void assertFormat(String argument) {
+        boolean integral = ConvertUtils.isIntegral(argument, Long.MIN_VALUE, Long.MAX_VALUE);
+        if (integral != parses(() -> Long.parseLong(argument))) {
+            throw new IllegalStateException("预期结果应为 isIntegral('" + argument + "') == " + !integral);
+        }
+        boolean decimal = ConvertUtils.isDecimal(argument) || ConvertUtils.isHexDecimal(argument);
+        if (decimal != parses(() -> Double.parseDouble(argument))) {
+            throw new IllegalStateException("预期结果应为 isDecimal('" + argument + "') == " + !decimal);
+        }
+        boolean bigDecimal = ConvertUtils.isBigDecimal(argument);
+        if (bigDecimal != parses(() -> new BigDecimal(argument))) {
+            throw new IllegalStateException("预期结果应为 isBigDecimal('" + argument + "') == " + !bigDecimal);
+        }
+    }
+
+    @Test
+    public void testFormats() {
+        for (String argument : BOUNDARIES) {
+            assertFormat(argument);
+        }
+        if (ConvertUtils.isIntegral("128", Byte.MIN_VALUE, Byte.MAX_VALUE)
+                || !ConvertUtils.isIntegral("-128", Byte.MIN_VALUE, Byte.MAX_VALUE)) {
+            throw new IllegalStateException("预期结果应为 仅接受 byte 范围内的整数");
+        }
+        if (ConvertUtils.isHexDecimal("0xzz") || !ConvertUtils.isHexDecimal("0x1.8p1")) {
+            throw new IllegalStateException("预期结果应为 仅接受完整的十六进制浮点数");
+        }
+        // 以随机组合的数字相关字符覆盖边界表之外的形式
+        Random random = new Random(20261019L);
+        char[] alphabet = "0123456789abcdefxXpP.+-eEfFdD NaIinty".toCharArray();
+        char[] buffer = new char[8];
+        for (int i = 0; i < 200000; i++) {
+            int length = 1 + random.nextInt(buffer.length);
+            for (int j = 0; j < length; j++) {
+                buffer[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            assertFormat(new String(buffer, 0, length));
+        }
+    }
+
+    @Test
+    public void testTryConvert() {
+        CommandContext context = new CommandContextImpl();
+        List<String> rejected = new ArrayList<>();
+        for (Class<?> type : TYPES) {
+            ArgumentConvertor<?> convertor = StandardConvertors.findArgumentConvertor(type);
+            for (String argument : BOUNDARIES) {
+                Object expected;
+                try {
+                    expected = convertor.convert(context, argument);
+                } catch (Throwable e) {
+                    expected = ArgumentConvertor.REJECTED;
+                }
+                Object actual = convertor.tryConvert(context, argument);
+                if (!Objects.equals(expected, actual)) {
+                    throw new IllegalStateException("预期结果应为 " + type.getSimpleName() + " '" + argument + "' -> " + expected);
+                }
+                if (actual == ArgumentConvertor.REJECTED) {
+                    rejected.add(type.getSimpleName() + ":" + argument);
+                }
+            }
+        }
+        logger.info("拒绝的参数：{} 项", rejected.size());
+    }
+}
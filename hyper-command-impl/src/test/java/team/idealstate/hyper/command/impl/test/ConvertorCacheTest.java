@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.framework.convert.ConvertorCache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * <p>ConvertorCacheTest</p>
+ *
+ * <p>创建于 2026/10/19 9:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ConvertorCacheTest {
+
+    private static final Logger logger = LogManager.getLogger(ConvertorCacheTest.class);
+
+    private static void assertBounded(ConvertorCache<?> cache) {
+        if (cache.size() > cache.getCapacity()) {
+            throw new IllegalStateException("预期结果应为 至多 " + cache.getCapacity() + " 项");
+        }
+    }
+
+    @Test
+    public void testCounters() {
+        ConvertorCache<String> cache = new ConvertorCache<>(4, 16);
+        if (cache.get("a") != null || cache.getMissCount() != 1 || cache.getHitCount() != 0) {
+            throw new IllegalStateException("预期结果应为 1 次未命中");
+        }
+        cache.put("a", "A");
+        if (!"A".equals(cache.get("a")) || cache.getHitCount() != 1) {
+            throw new IllegalStateException("预期结果应为 1 次命中");
+        }
+        for (String key : new String[]{"b", "c", "d"}) {
+            cache.put(key, key.toUpperCase());
+        }
+        if (cache.size() != 4 || cache.getEvictionCount() != 0) {
+            throw new IllegalStateException("预期结果应为 4 项且没有淘汰");
+        }
+        cache.put("e", "E");
+        logger.info("填满后再写入：{}", cache);
+        if (cache.size() != 4 || cache.getEvictionCount() != 1) {
+            throw new IllegalStateException("预期结果应为 淘汰 1 项");
+        }
+        // 被访问过的 a 应当保留，淘汰的是从未命中的条目
+        if (!"A".equals(cache.get("a"))) {
+            throw new IllegalStateException("预期结果应为 保留 a");
+        }
+    }
+
+    @Test
+    public void testMaxKeyLength() {
+        ConvertorCache<String> cache = new ConvertorCache<>(8, 4);
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, String> loader = key -> {
+            loads.incrementAndGet();
+            return key.toUpperCase();
+        };
+        for (int i = 0; i < 3; i++) {
+            if (!"LONGER".equals(cache.get("longer", loader))) {
+                throw new IllegalStateException("预期结果应为 LONGER");
+            }
+            cache.get("abcd", loader);
+        }
+        // 超过长度上限的参数每次都重新加载且不占用缓存
+        if (loads.get() != 4 || cache.size() != 1) {
+            throw new IllegalStateException("预期结果应为 加载 4 次且只缓存 1 项");
+        }
+        if (cache.get("x", key -> null) != null || cache.size() != 1) {
+            throw new IllegalStateException("预期结果应为 不缓存 null");
+        }
+    }
+
+    @Test
+    public void testClear() {
+        ConvertorCache<String> cache = new ConvertorCache<>(4, 16);
+        for (int i = 0; i < 10; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+        cache.clear();
+        if (cache.size() != 0 || cache.get("key9") != null) {
+            throw new IllegalStateException("预期结果应为 空缓存");
+        }
+        for (int i = 0; i < 4; i++) {
+            cache.put("new" + i, "value" + i);
+        }
+        if (cache.size() != 4 || !"value0".equals(cache.get("new0"))) {
+            throw new IllegalStateException("预期结果应为 清空后可重新填满");
+        }
+    }
+
+    @Test
+    public void testFlood() throws InterruptedException {
+        ConvertorCache<String> cache = new ConvertorCache<>(64, 16);
+        String[] hotKeys = new String[8];
+        for (int i = 0; i < hotKeys.length; i++) {
+            hotKeys[i] = "hot" + i;
+            cache.put(hotKeys[i], hotKeys[i].toUpperCase());
+        }
+        AtomicInteger hotLoads = new AtomicInteger();
+        Function<String, String> loader = key -> {
+            if (key.startsWith("hot")) {
+                hotLoads.incrementAndGet();
+            }
+            return key.toUpperCase();
+        };
+        // 一次性参数的冲刷中穿插访问常用参数，常用参数应始终命中
+        for (int i = 0; i < 100000; i++) {
+            cache.get("flood" + i, loader);
+            if (i % 32 == 0) {
+                for (String hotKey : hotKeys) {
+                    cache.get(hotKey, loader);
+                }
+                assertBounded(cache);
+            }
+        }
+        logger.info("单线程冲刷后：{}", cache);
+        if (hotLoads.get() != 0) {
+            throw new IllegalStateException("预期结果应为 常用参数未被淘汰");
+        }
+        if (cache.getEvictionCount() < 100000 - 64) {
+            throw new IllegalStateException("预期结果应为 一次性参数被持续淘汰");
+        }
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int seed = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 50000; i++) {
+                    cache.get("thread" + seed + "_" + i, loader);
+                }
+            });
+            threads[t].start();
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertBounded(cache);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        logger.info("多线程冲刷后：{}", cache);
+        assertBounded(cache);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+import team.idealstate.hyper.command.impl.history.DispatchHistory;
+import team.idealstate.hyper.command.impl.history.DispatchRecord;
+import team.idealstate.hyper.command.impl.intercept.PreExecutionInterceptor;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>DispatchHistoryTest</p>
+ *
+ * <p>创建于 2026/10/18 21:30</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DispatchHistoryTest {
+
+    private static final Logger logger = LogManager.getLogger(DispatchHistoryTest.class);
+
+    @Test
+    public void testRecent() {
+        Command root = FastCommand.root("记录");
+        root.subCommand(FastCommand.command("ok")
+                .argumentAcceptor(AcceptorUtils.isEquals("ok"))
+                .commandExecutor(context -> true));
+        root.subCommand(FastCommand.command("guard")
+                .argumentAcceptor(AcceptorUtils.isEquals("guard"))
+                .actionInterceptor(new PreExecutionInterceptor() {
+                    @Override
+                    public boolean doIntercept(@NotNull CommandContext context) {
+                        return true;
+                    }
+                })
+                .commandExecutor(context -> true));
+        root.subCommand(FastCommand.command("boom")
+                .argumentAcceptor(AcceptorUtils.isEquals("boom"))
+                .commandExecutor(context -> {
+                    throw new UnsupportedOperationException("boom");
+                }));
+        FastCommand.execute(root, new String[]{"ok"});
+        FastCommand.dispatch(root, new String[]{"ok", "extra"});
+        FastCommand.execute(root, new String[]{"guard"});
+        try {
+            FastCommand.execute(root, new String[]{"boom"});
+            throw new IllegalStateException("预期结果应为 抛出异常");
+        } catch (UnsupportedOperationException ignored) {
+        }
+
+        List<DispatchRecord> recent = DispatchHistory.recent();
+        if (recent.size() < 4) {
+            throw new IllegalStateException("预期结果应为 至少 4 条记录");
+        }
+        List<DispatchRecord> records = recent.subList(recent.size() - 4, recent.size());
+        logger.info("最近的调度：{}", records);
+        DispatchRecord.Outcome[] expected = {
+                DispatchRecord.Outcome.SUCCEEDED, DispatchRecord.Outcome.MISMATCHED,
+                DispatchRecord.Outcome.INTERCEPTED, DispatchRecord.Outcome.ERROR
+        };
+        for (int i = 0; i < expected.length; i++) {
+            if (records.get(i).getOutcome() != expected[i]) {
+                throw new IllegalStateException("预期结果应为 " + expected[i]);
+            }
+        }
+        DispatchRecord mismatched = records.get(1);
+        if (!"记录 ok".equals(mismatched.getPath()) || !"extra".equals(mismatched.getRejectedToken())) {
+            throw new IllegalStateException("预期结果应为 在 记录 ok 处拒绝 extra");
+        }
+        if (records.get(2).getInterceptor() == null || records.get(3).getError() == null) {
+            throw new IllegalStateException("预期结果应为 记录拦截器与异常");
+        }
+    }
+
+    @Test
+    public void testAcceptorError() {
+        Command root = FastCommand.root("解析");
+        root.subCommand(FastCommand.command("bad")
+                .argumentAcceptor(context -> {
+                    throw new UnsupportedOperationException("bad");
+                })
+                .commandExecutor(context -> true));
+        for (int i = 0; i < 2; i++) {
+            try {
+                if (i == 0) {
+                    FastCommand.execute(root, new String[]{"bad"});
+                } else {
+                    FastCommand.dispatch(root, new String[]{"bad"});
+                }
+                throw new IllegalStateException("预期结果应为 抛出异常");
+            } catch (UnsupportedOperationException ignored) {
+            }
+            List<DispatchRecord> recent = DispatchHistory.recent();
+            DispatchRecord record = recent.get(recent.size() - 1);
+            logger.info("参数接受器抛出异常：{}", record);
+            if (record.getOutcome() != DispatchRecord.Outcome.ERROR || record.getError() == null) {
+                throw new IllegalStateException("预期结果应为 " + DispatchRecord.Outcome.ERROR);
+            }
+        }
+    }
+
+    @Test
+    public void testDump() throws InterruptedException {
+        Command root = FastCommand.root("转储");
+        root.subCommand(FastCommand.command("tick")
+                .argumentAcceptor(AcceptorUtils.isEquals("tick"))
+                .commandExecutor(context -> true));
+        String[] args = {"tick"};
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < DispatchHistory.CAPACITY * 3; i++) {
+                FastCommand.execute(root, args);
+            }
+        }, "转储线程");
+        thread.start();
+        thread.join();
+        List<DispatchRecord> records = DispatchHistory.dump(thread);
+        if (records.size() != DispatchHistory.CAPACITY) {
+            throw new IllegalStateException("预期结果应为 " + DispatchHistory.CAPACITY);
+        }
+        long sequence = DispatchHistory.CAPACITY * 2;
+        for (DispatchRecord record : records) {
+            if (record.getSequence() != ++sequence || !"转储线程".equals(record.getThreadName())) {
+                throw new IllegalStateException("预期结果应为 " + sequence);
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentDump() throws InterruptedException {
+        Command root = FastCommand.root("并发");
+        root.subCommand(FastCommand.command("a")
+                .argumentAcceptor(AcceptorUtils.isEquals("a"))
+                .commandExecutor(context -> true));
+        root.subCommand(FastCommand.command("b")
+                .argumentAcceptor(AcceptorUtils.isEquals("b"))
+                .commandExecutor(context -> false));
+        String[] a = {"a"};
+        String[] b = {"b"};
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 200_000; i++) {
+                FastCommand.execute(root, (i & 1) == 0 ? a : b);
+            }
+            running.set(false);
+        }, "并发写入线程");
+        writer.start();
+        int dumps = 0;
+        // 每条被导出的记录的参数、路径与结果必须来自同一次调度
+        while (running.get() || dumps == 0) {
+            long previous = 0L;
+            for (DispatchRecord record : DispatchHistory.dump(writer)) {
+                boolean succeeded = "a".equals(record.getTokens().get(0));
+                if (!(succeeded ? "并发 a" : "并发 b").equals(record.getPath())
+                        || record.getOutcome() != (succeeded ? DispatchRecord.Outcome.SUCCEEDED : DispatchRecord.Outcome.FAILED)) {
+                    throw new IllegalStateException("预期结果应为 一致的记录：" + record);
+                }
+                if (record.getSequence() <= previous) {
+                    throw new IllegalStateException("预期结果应为 递增的序号");
+                }
+                previous = record.getSequence();
+            }
+            dumps++;
+        }
+        writer.join();
+        logger.info("并发导出次数：{}", dumps);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.DispatchResult;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+
+/**
+ * <p>DispatchResultTest</p>
+ *
+ * <p>创建于 2026/10/18 23:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DispatchResultTest {
+
+    private static final Logger logger = LogManager.getLogger(DispatchResultTest.class);
+
+    private static Command command(String label) {
+        return FastCommand.command(label)
+                .argumentAcceptor(AcceptorUtils.isEquals(label))
+                .commandExecutor(context -> true);
+    }
+
+    @Test
+    public void testSuggestions() {
+        Command root = FastCommand.root("root")
+                .subCommand(command("teleport"))
+                .subCommand(command("tell"))
+                .subCommand(command("time"))
+                .subCommand(command("give")
+                        .subCommand(command("diamond"))
+                        .subCommand(command("dirt")));
+        assertSuggested(root, new String[]{"teleprot"}, 0, "teleport");
+        assertSuggested(root, new String[]{"give", "diamnod"}, 1, "diamond");
+        assertSuggested(root.freeze(), new String[]{"give", "dirtt"}, 1, "dirt");
+        // 子命令变更后建议索引随之重建
+        root.subCommand(command("weather"));
+        assertSuggested(root, new String[]{"wether"}, 0, "weather");
+        DispatchResult dispatchResult = FastCommand.dispatch(root, new String[]{"qqqqqq"});
+        if (dispatchResult.isMatched() || !dispatchResult.getSuggestions().isEmpty()) {
+            throw new IllegalStateException("预期结果应为 无建议");
+        }
+        if (!Boolean.TRUE.equals(FastCommand.dispatch(root, new String[]{"give", "dirt"}).getResult())) {
+            throw new IllegalStateException("预期结果应为 true");
+        }
+    }
+
+    private static void assertSuggested(Command root, String[] args, int failedIndex, String suggestion) {
+        DispatchResult dispatchResult = FastCommand.dispatch(root, args);
+        logger.info("调度结果：{}", dispatchResult);
+        if (dispatchResult.isMatched() || dispatchResult.getFailedIndex() != failedIndex
+                || dispatchResult.getSuggestions().isEmpty()
+                || !suggestion.equals(dispatchResult.getSuggestions().get(0))) {
+            throw new IllegalStateException("预期结果应为 " + suggestion);
+        }
+    }
+}
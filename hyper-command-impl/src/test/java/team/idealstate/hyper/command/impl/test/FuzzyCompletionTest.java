@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.api.example.ExampleProvider;
+import team.idealstate.hyper.command.api.example.ExampleSink;
+import team.idealstate.hyper.command.impl.StringIndex;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+import team.idealstate.hyper.command.impl.complete.CompleterUtils;
+import team.idealstate.hyper.command.impl.complete.FuzzyIndex;
+import team.idealstate.hyper.command.impl.example.ExampleUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>FuzzyCompletionTest</p>
+ *
+ * <p>创建于 2026/10/18 19:30</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class FuzzyCompletionTest {
+
+    private static final Logger logger = LogManager.getLogger(FuzzyCompletionTest.class);
+
+    @Test
+    public void testFuzzyCompletion() {
+        List<String> names = new ArrayList<>(Arrays.asList("teleport", "tell", "time", "Teleporter", "weather"));
+        for (int i = 0; i < 100000; i++) {
+            names.add("entry" + i);
+        }
+        StringIndex index = StringIndex.of(names);
+        String[] queries = {"TEL", "tp", "tleport", "wether", "qqqq"};
+        String[] validResults = {"tell", "teleport", "teleport", "weather", null};
+        for (int i = 0; i < queries.length; i++) {
+            List<String> result = index.getFuzzyIndex().search(queries[i], 5);
+            logger.info("模糊匹配 {}：{}", queries[i], result);
+            String first = result.isEmpty() ? null : result.get(0);
+            if (validResults[i] == null ? first != null : !validResults[i].equals(first)) {
+                throw new IllegalStateException("预期结果应为 " + validResults[i]);
+            }
+            if (!result.equals(FuzzyIndex.search(names, queries[i], 5))) {
+                throw new IllegalStateException("预期结果应为 " + result);
+            }
+        }
+
+        Command root = FastCommand.root("root");
+        root.subCommand(FastCommand.command("name")
+                .exampleProvider(ExampleUtils.collection(index))
+                .argumentAcceptor(AcceptorUtils.isContains(index)));
+        List<String> completed = FastCommand.complete(root, new String[]{"entry99999x"});
+        logger.info("无前缀匹配时的补全：{}", completed);
+        if (completed == null || completed.isEmpty() || completed.size() > 20 || !"entry99999".equals(completed.get(0))) {
+            throw new IllegalStateException("预期结果应为 以 entry99999 开头的有限结果");
+        }
+    }
+
+    @Test
+    public void testStreamingFallback() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            names.add("entry" + i);
+        }
+        Command indexed = FastCommand.root("root");
+        indexed.subCommand(FastCommand.command("name")
+                .exampleProvider(ExampleUtils.collection(names))
+                .argumentAcceptor(AcceptorUtils.isContains(names)));
+        List<String> completed = FastCommand.complete(indexed, new String[]{"entry99999x"}, 5);
+        logger.info("有索引时的流式补全：{}", completed);
+        if (completed == null || completed.size() > 5 || !"entry99999".equals(completed.get(0))) {
+            throw new IllegalStateException("预期结果应为 以 entry99999 开头的至多 5 项");
+        }
+
+        // 没有索引的提供器在模糊匹配时只扫描有限数量的示例
+        AtomicInteger scanned = new AtomicInteger();
+        Command opaque = FastCommand.root("root");
+        opaque.subCommand(FastCommand.command("name")
+                .exampleProvider(new ExampleProvider() {
+                    @Override
+                    public @NotNull List<String> provideExample(@NotNull CommandContext context) {
+                        return names;
+                    }
+
+                    @Override
+                    public void provideExample(@NotNull CommandContext context, @NotNull String prefix, int limit, @NotNull ExampleSink sink) {
+                        int count = 0;
+                        for (String name : names) {
+                            if (count >= limit) {
+                                return;
+                            }
+                            if (name.startsWith(prefix)) {
+                                count++;
+                                scanned.incrementAndGet();
+                                if (!sink.accept(name)) {
+                                    return;
+                                }
+                            }
+                        }
+                    }
+                })
+                .argumentAcceptor(AcceptorUtils.isContains(names)));
+        completed = FastCommand.complete(opaque, new String[]{"entry10x"}, 5);
+        logger.info("无索引时的流式补全：{}，扫描 {} 项", completed, scanned.get());
+        if (completed == null || !"entry10".equals(completed.get(0))) {
+            throw new IllegalStateException("预期结果应为 entry10");
+        }
+        if (scanned.get() > CompleterUtils.FALLBACK_SCAN_LIMIT) {
+            throw new IllegalStateException("预期结果应为 至多扫描 " + CompleterUtils.FALLBACK_SCAN_LIMIT + " 项");
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.api.argument.CaseFolding;
+import team.idealstate.hyper.command.api.complete.CommandCompleter;
+import team.idealstate.hyper.command.impl.StringIndex;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+import team.idealstate.hyper.command.impl.complete.CompleterUtils;
+import team.idealstate.hyper.command.impl.example.ExampleUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>IgnoreCaseTest</p>
+ *
+ * <p>创建于 2026/10/18 17:05</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class IgnoreCaseTest {
+
+    private static final Logger logger = LogManager.getLogger(IgnoreCaseTest.class);
+
+    @Test
+    public void testIgnoreCase() {
+        AtomicReference<String> result = new AtomicReference<>(null);
+        Command root = FastCommand.root("root");
+        for (String label : Arrays.asList("Hello", "INFO", "straße")) {
+            root.subCommand(FastCommand.command(label)
+                    .exampleProvider(ExampleUtils.singleton(label))
+                    .argumentAcceptor(AcceptorUtils.isEqualsIgnoreCase(label))
+                    .commandExecutor(context -> {
+                        result.set(label);
+                        return true;
+                    }));
+        }
+        Locale defaultLocale = Locale.getDefault();
+        // 与区域无关的折叠不应受土耳其语区域的 “I” 影响
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            String[] inputs = {"hello", "HELLO", "info", "Info", "STRASSE"};
+            String[] validResults = {"Hello", "Hello", "INFO", "INFO", "straße"};
+            for (int i = 0; i < inputs.length; i++) {
+                FastCommand.execute(root, new String[]{inputs[i]});
+                if (!validResults[i].equals(result.getAndSet(null))) {
+                    throw new IllegalStateException("预期结果应为 " + validResults[i]);
+                }
+            }
+            if (!"ınfo".equals(CaseFolding.DEFAULT_LOCALE.fold("INFO"))) {
+                throw new IllegalStateException("预期结果应为 ınfo");
+            }
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+        List<String> completions = FastCommand.complete(root, new String[]{"hE"});
+        logger.info("补全结果：{}", completions);
+        if (!Collections.singletonList("Hello").equals(completions)) {
+            throw new IllegalStateException("预期结果应为 [Hello]");
+        }
+    }
+
+    @Test
+    public void testIgnoreCaseCompleter() {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add("Item" + i);
+        }
+        items.add("ITEMS");
+        CommandCompleter completer = CompleterUtils.ignoreCaseCompleter();
+        CommandContext context = FastCommand.currentContext();
+        // 以 StringIndex 与普通列表提供示例时结果相同，且按原有顺序排列
+        for (List<String> examples : Arrays.asList(StringIndex.of(items), items)) {
+            context.setArguments(new String[]{"items"});
+            context.setDepth(0);
+            List<String> completions = completer.complete(context, examples);
+            logger.info("补全结果：{}", completions);
+            if (!Collections.singletonList("ITEMS").equals(completions)) {
+                throw new IllegalStateException("预期结果应为 [ITEMS]");
+            }
+            context.setArguments(new String[]{"iTEM9"});
+            completions = completer.complete(context, examples);
+            if (!Arrays.asList("Item9", "Item90", "Item91", "Item92", "Item93",
+                    "Item94", "Item95", "Item96", "Item97", "Item98", "Item99").equals(completions)) {
+                throw new IllegalStateException("预期结果应为 Item9 与 Item90 至 Item99");
+            }
+            // 没有匹配项时与默认补全器一样只退回有限的模糊匹配项
+            context.setArguments(new String[]{"xyz"});
+            completions = completer.complete(context, examples);
+            if (completions.size() > CompleterUtils.FALLBACK_LIMIT) {
+                throw new IllegalStateException("预期结果应为 至多 " + CompleterUtils.FALLBACK_LIMIT + " 项");
+            }
+        }
+    }
+}
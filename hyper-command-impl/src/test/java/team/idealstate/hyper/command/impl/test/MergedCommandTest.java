@@ -0,0 +1,172 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.api.framework.CommandHandler;
+import team.idealstate.hyper.command.api.framework.annotation.RootCommand;
+import team.idealstate.hyper.command.api.framework.annotation.SubCommand;
+import team.idealstate.hyper.command.impl.FrozenCommand;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>MergedCommandTest</p>
+ *
+ * <p>创建于 2026/10/18 10:41</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MergedCommandTest {
+
+    private static final Logger logger = LogManager.getLogger(MergedCommandTest.class);
+
+    private static final AtomicReference<String> RESULT = new AtomicReference<>(null);
+
+    @Test
+    public void testMergedCommand() {
+        Command root = FastCommand.root("主命令");
+        root.subCommand(FastCommand.command(MergedCommand.class));
+        dispatch(root);
+    }
+
+    @Test
+    public void testFrozenCommand() {
+        Command root = FastCommand.root("主命令");
+        root.subCommand(FastCommand.command(MergedCommand.class));
+        Command frozen = root.freeze();
+        root.subCommand(FastCommand.command("merged"));
+        if (!frozen.isFrozen() || frozen.getSubCommands().size() != 1) {
+            throw new IllegalStateException("预期结果应为 仅包含冻结前的子命令");
+        }
+        if (frozen.freeze() != frozen || FastCommand.freeze(frozen) != frozen || !FastCommand.freeze(root).isFrozen()) {
+            throw new IllegalStateException("预期结果应为 已冻结的命令返回其自身");
+        }
+        try {
+            frozen.subCommand(FastCommand.command("other"));
+            throw new IllegalStateException("预期结果应为 无法修改已冻结的命令");
+        } catch (IllegalStateException e) {
+            logger.info("修改已冻结的命令：{}", e.getMessage());
+        }
+        dispatch(frozen);
+    }
+
+    @Test
+    public void testFreezeSubCommand() {
+        Command root = FastCommand.root("主命令");
+        Command merged = FastCommand.command(MergedCommand.class);
+        root.subCommand(merged);
+        Command frozen = merged.freeze();
+        Command parent = frozen.getParent();
+        if (parent == null || !parent.isFrozen() || !parent.isRoot() || parent.getSubCommands().get(0) != frozen) {
+            throw new IllegalStateException("预期结果应为 父命令链一并冻结");
+        }
+        if (frozen.getDepth() != merged.getDepth()) {
+            throw new IllegalStateException("预期结果应为 深度 " + merged.getDepth());
+        }
+        root.subCommand(FastCommand.command("merged"));
+        if (parent.getSubCommands().size() != 1) {
+            throw new IllegalStateException("预期结果应为 仅包含冻结前的子命令");
+        }
+        try {
+            FrozenCommand.freeze(merged, root, 0);
+            throw new IllegalStateException("预期结果应为 无法挂载到可变的父命令下");
+        } catch (IllegalArgumentException e) {
+            logger.info("挂载到可变的父命令下：{}", e.getMessage());
+        }
+        dispatch(parent);
+    }
+
+    private static void dispatch(Command root) {
+        Iterator<String> scanner = Arrays.asList(
+                "/merged say hello", "/merged say hi", "/merged say hi 3",
+                "/merged say hi x", "/merged sum 1.5 2", "/merged sum a 2",
+                "/merged echo hi"
+        ).iterator();
+        Iterator<String> resultSet = Arrays.asList(
+                "hello", "hi", "hi*3", null, "double:3.5", null,
+                "hi@3"
+        ).iterator();
+        while (scanner.hasNext()) {
+            String input = scanner.next();
+            logger.info("\n----------------------------");
+            String validResult;
+            try {
+                validResult = resultSet.next();
+            } catch (NoSuchElementException e) {
+                throw new IllegalStateException("测试用例的数量和有效结果的数量不相同");
+            }
+
+            String[] args = input.substring(1).split(" ", -1);
+            logger.info("传入参数：{}", Arrays.toString(args));
+            Boolean executed = FastCommand.execute(root, args);
+            logger.info("执行结果：{}", executed);
+            if (!Objects.equals(RESULT.get(), validResult)) {
+                throw new IllegalStateException("预期结果应为 " + validResult);
+            }
+            RESULT.set(null);
+        }
+    }
+
+    @RootCommand("merged")
+    public static class MergedCommand implements CommandHandler {
+
+        @SubCommand("say hello")
+        public boolean sayHello() {
+            RESULT.set("hello");
+            return true;
+        }
+
+        @SubCommand("say ${message}")
+        public boolean say(String message) {
+            RESULT.set(message);
+            return true;
+        }
+
+        @SubCommand("say ${message} ${times}")
+        public boolean say(String message, int times) {
+            RESULT.set(message + "*" + times);
+            return true;
+        }
+
+        @SubCommand("sum ${first} ${second}")
+        public boolean sum(int first, int second) {
+            RESULT.set("int:" + (first + second));
+            return true;
+        }
+
+        @SubCommand("sum ${first} ${second}")
+        public boolean sum(double first, double second) {
+            RESULT.set("double:" + (first + second));
+            return true;
+        }
+
+        @SubCommand("echo ${message}")
+        public boolean echo(CommandContext context, String message) {
+            RESULT.set(message + "@" + context.getArguments().length);
+            return true;
+        }
+    }
+}
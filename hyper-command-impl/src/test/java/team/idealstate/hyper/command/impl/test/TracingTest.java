@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.api.action.CommandAction;
+import team.idealstate.hyper.command.impl.AbstractCommand;
+import team.idealstate.hyper.command.impl.CommandImpl;
+import team.idealstate.hyper.command.impl.CommandRegistry;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+import team.idealstate.hyper.command.impl.intercept.PreExecutionInterceptor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>TracingTest</p>
+ *
+ * <p>创建于 2026/10/18 23:00</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TracingTest {
+
+    private static final Logger logger = LogManager.getLogger(TracingTest.class);
+
+    private static Command command(@NotNull String label, @NotNull AtomicReference<String> result) {
+        return FastCommand.command(label)
+                .argumentAcceptor(AcceptorUtils.isEquals(label))
+                .actionInterceptor(new PreExecutionInterceptor() {
+                    @Override
+                    public boolean doIntercept(@NotNull CommandContext context) {
+                        return "blocked".equals(context.getArgument());
+                    }
+                })
+                .commandExecutor(context -> {
+                    result.set(label);
+                    return true;
+                });
+    }
+
+    @Test
+    public void testInterceptAtLastArgument() {
+        AtomicReference<String> result = new AtomicReference<>(null);
+        Command root = FastCommand.root("root")
+                .subCommand(command("run", result)
+                        .subCommand(command("blocked", result)));
+        // 拦截器位于最后一个参数上，诊断信息不应读取越界的参数
+        if (!Boolean.TRUE.equals(FastCommand.execute(root, new String[]{"run"})) || !"run".equals(result.getAndSet(null))) {
+            throw new IllegalStateException("预期结果应为 run");
+        }
+        if (FastCommand.execute(root, new String[]{"run", "blocked"}) != null || result.get() != null) {
+            throw new IllegalStateException("预期结果应为 已拦截");
+        }
+        if (!ProbeCommand.interceptPastEnd(root.getSubCommands().get(0))) {
+            throw new IllegalStateException("预期结果应为 参数不足时不询问拦截器");
+        }
+    }
+
+    @Test
+    public void testTracingSubtree() {
+        AtomicReference<String> result = new AtomicReference<>(null);
+        CommandRegistry registry = new CommandRegistry("注册表");
+        AbstractCommand traced = (AbstractCommand) registry.register(command("traced", result)
+                .subCommand(command("inner", result)));
+        registry.register(command("quiet", result));
+        EventCollector collector = new EventCollector();
+        org.apache.logging.log4j.core.Logger commandLogger =
+                (org.apache.logging.log4j.core.Logger) LogManager.getLogger(AbstractCommand.class);
+        collector.start();
+        commandLogger.addAppender(collector);
+        try {
+            traced.setTracing(true);
+            FastCommand.execute(registry, new String[]{"traced", "inner"});
+            FastCommand.execute(registry, new String[]{"quiet"});
+            List<String> messages = collector.messages(Level.INFO);
+            logger.info("追踪信息：{}", messages);
+            if (messages.isEmpty()) {
+                throw new IllegalStateException("预期结果应为 输出追踪信息");
+            }
+            for (String message : messages) {
+                if (!message.startsWith("[Command](traced)") && !message.startsWith("[Command](inner)")) {
+                    throw new IllegalStateException("预期结果应为 仅输出被追踪的子树：" + message);
+                }
+            }
+            traced.setTracing(false);
+            collector.events.clear();
+            FastCommand.execute(registry, new String[]{"traced", "inner"});
+            if (!collector.messages(Level.INFO).isEmpty()) {
+                throw new IllegalStateException("预期结果应为 关闭追踪后不再输出");
+            }
+        } finally {
+            traced.setTracing(false);
+            commandLogger.removeAppender(collector);
+            collector.stop();
+        }
+    }
+
+    private static final class ProbeCommand extends CommandImpl {
+
+        private ProbeCommand() {
+            super("probe");
+        }
+
+        static boolean interceptPastEnd(@NotNull Command command) {
+            String[] args = {"run"};
+            CommandContext context = FastCommand.currentContext();
+            return !intercept(command, context, CommandAction.EXECUTE, args, args.length)
+                    && !intercept(command, context, CommandAction.EXECUTE, new String[0]);
+        }
+    }
+
+    private static final class EventCollector extends AbstractAppender {
+
+        private final List<LogEvent> events = new CopyOnWriteArrayList<>();
+
+        private EventCollector() {
+            super("TracingTest", null, null, true, Property.EMPTY_ARRAY);
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            events.add(event.toImmutable());
+        }
+
+        @NotNull
+        List<String> messages(@NotNull Level level) {
+            List<String> messages = new CopyOnWriteArrayList<>();
+            for (LogEvent event : events) {
+                if (event.getLevel() == level) {
+                    messages.add(event.getMessage().getFormattedMessage());
+                }
+            }
+            return messages;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.impl.test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+import team.idealstate.hyper.command.impl.example.ExampleUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>JfrEventsTest</p>
+ *
+ * <p>创建于 2026/10/18 22:10</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class JfrEventsTest {
+
+    private static final Logger logger = LogManager.getLogger(JfrEventsTest.class);
+    private static final String EXECUTE = "team.idealstate.hyper.command.Execute";
+    private static final String COMPLETE = "team.idealstate.hyper.command.Complete";
+
+    @Test
+    public void testExecuteAndComplete() throws IOException {
+        Command root = FastCommand.root("事件");
+        root.subCommand(FastCommand.command("pay")
+                .exampleProvider(ExampleUtils.singleton("pay"))
+                .argumentAcceptor(AcceptorUtils.isEquals("pay"))
+                .subCommand(FastCommand.command("amount")
+                        .exampleProvider(ExampleUtils.collection(Arrays.asList("1", "10", "100")))
+                        .argumentAcceptor(AcceptorUtils.isIntegral())
+                        .commandExecutor(context -> true)));
+        Path file = Files.createTempFile("hyper-command", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EXECUTE).withThreshold(Duration.ZERO);
+            recording.enable(COMPLETE).withThreshold(Duration.ZERO);
+            recording.start();
+            FastCommand.execute(root, new String[]{"pay", "10"});
+            FastCommand.execute(root, new String[]{"pay", "all"});
+            FastCommand.complete(root, new String[]{"pay", ""});
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events;
+        try {
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+        RecordedEvent succeeded = null;
+        RecordedEvent mismatched = null;
+        RecordedEvent completed = null;
+        for (RecordedEvent event : events) {
+            String name = event.getEventType().getName();
+            if (EXECUTE.equals(name)) {
+                if ("succeeded".equals(event.getString("outcome"))) {
+                    succeeded = event;
+                } else if ("mismatched".equals(event.getString("outcome"))) {
+                    mismatched = event;
+                }
+            } else if (COMPLETE.equals(name)) {
+                completed = event;
+            }
+        }
+        logger.info("执行事件：{}，{}，补全事件：{}", succeeded, mismatched, completed);
+        if (succeeded == null || !"事件 pay amount".equals(succeeded.getString("path"))
+                || succeeded.getInt("argumentCount") != 2 || succeeded.getInt("acceptedCount") != 2) {
+            throw new IllegalStateException("预期结果应为 事件 pay amount 上的成功执行");
+        }
+        if (mismatched == null || !"事件 pay".equals(mismatched.getString("path"))
+                || mismatched.getInt("acceptedCount") != 1) {
+            throw new IllegalStateException("预期结果应为 事件 pay 上的参数不匹配");
+        }
+        if (completed == null || !"事件 pay".equals(completed.getString("path"))
+                || completed.getInt("argumentCount") != 2 || completed.getInt("resultCount") != 3) {
+            throw new IllegalStateException("预期结果应为 事件 pay 上的 3 个补全项");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.impl.test;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+import team.idealstate.hyper.command.impl.example.ExampleUtils;
+import team.idealstate.hyper.command.impl.intercept.PreExecutionInterceptor;
+import team.idealstate.hyper.command.impl.metrics.CommandMetrics;
+import team.idealstate.hyper.command.impl.metrics.LatencyHistogram;
+import team.idealstate.hyper.command.impl.metrics.NodeMetrics;
+
+import java.util.Arrays;
+
+/**
+ * <p>CommandMetricsTest</p>
+ *
+ * <p>
+ * 仅由 {@code testMetrics} 任务在单独的测试 JVM 中运行，其测试资源中声明了 {@link CommandMetrics}；
+ * 其他测试均在未安装监听器的情况下运行。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 19:30</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CommandMetricsTest {
+
+    private static final Logger logger = LogManager.getLogger(CommandMetricsTest.class);
+
+    @Test
+    public void testCommandMetrics() {
+        CommandMetrics metrics = CommandMetrics.installed();
+        if (metrics == null) {
+            throw new IllegalStateException("预期结果应为 已安装");
+        }
+        Command root = FastCommand.root("指标");
+        root.subCommand(FastCommand.command("pay")
+                .exampleProvider(ExampleUtils.singleton("pay"))
+                .argumentAcceptor(AcceptorUtils.isEquals("pay"))
+                .subCommand(FastCommand.command("amount")
+                        .exampleProvider(ExampleUtils.collection(Arrays.asList("1", "10", "100")))
+                        .argumentAcceptor(AcceptorUtils.isIntegral())
+                        .actionInterceptor(new PreExecutionInterceptor() {
+                            @Override
+                            public boolean doIntercept(@NotNull CommandContext context) {
+                                return "0".equals(context.getArgument());
+                            }
+                        })
+                        .commandExecutor(context -> !"1".equals(context.getArgument()))));
+        for (int i = 0; i < 100; i++) {
+            FastCommand.execute(root, new String[]{"pay", String.valueOf(i)});
+        }
+        FastCommand.execute(root, new String[]{"pay", "all"});
+        FastCommand.complete(root, new String[]{"pay", ""});
+
+        NodeMetrics.Snapshot pay = metrics.snapshot("指标 pay");
+        NodeMetrics.Snapshot amount = metrics.snapshot("指标 pay amount");
+        logger.info("计数快照：{}", metrics.snapshot());
+        if (pay == null || amount == null) {
+            throw new IllegalStateException("预期结果应为 已记录");
+        }
+        if (pay.getAcceptHits() != 102 || pay.getCompletions() != 1 || pay.getCompletedItems() != 3) {
+            throw new IllegalStateException("预期结果应为 102 次命中、1 次补全、3 个补全项");
+        }
+        if (amount.getAcceptHits() != 100 || amount.getAcceptMisses() != 1
+                || amount.getExecuteIntercepts() != 1 || amount.getExecutions() != 99
+                || amount.getExecutionFailures() != 1 || amount.getLatency().getCount() != 99) {
+            throw new IllegalStateException("预期结果应为 100 次命中、1 次未命中、1 次拦截、99 次执行、1 次失败");
+        }
+        NodeMetrics.Snapshot merged = amount.merge(amount);
+        if (merged.getExecutions() != 198 || merged.getLatency().getCount() != 198) {
+            throw new IllegalStateException("预期结果应为 198");
+        }
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        logger.info("直方图快照：{}", snapshot);
+        if (snapshot.getCount() != 100_000 || snapshot.getMax() != 100_000) {
+            throw new IllegalStateException("预期结果应为 100000");
+        }
+        double[] percentiles = {50D, 90D, 99D, 99.9D};
+        for (double percentile : percentiles) {
+            long expected = (long) (percentile * 1000);
+            long actual = snapshot.getValueAtPercentile(percentile);
+            if (actual < expected || actual > expected + expected / 32) {
+                throw new IllegalStateException("预期结果应为 " + expected + " 附近");
+            }
+        }
+    }
+}
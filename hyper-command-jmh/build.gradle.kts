@@ -0,0 +1,48 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+val javaVersion = project.ext["javaVersion"] as Int
+val charset = project.ext["charset"] as String
+
+dependencies {
+    jmhCompileOnly("org.jetbrains:annotations:24.0.1")
+
+    jmh(project(":hyper-command-impl"))
+    // 带上 -PreflectiveHandlers 时不生成命令调度器，用于测量以反射方式创建命令的开销
+    if (!project.hasProperty("reflectiveHandlers")) {
+        jmhAnnotationProcessor(project(":hyper-command-processor"))
+    }
+}
+
+java {
+    sourceCompatibility = JavaVersion.toVersion(javaVersion)
+    targetCompatibility = sourceCompatibility
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(javaVersion))
+        vendor.set(JvmVendorSpec.AZUL)
+    }
+}
+
+tasks.named<JavaCompile>("compileJmhJava") {
+    options.encoding = charset
+    options.compilerArgs.add("-parameters")
+}
+
+tasks.named<ProcessResources>("processJmhResources") {
+    filteringCharset = charset
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    // 报告每次操作分配的字节数与 GC 次数
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    // 例如 -Pbenchmarks=DispatchBenchmark.execute
+    if (project.hasProperty("benchmarks")) {
+        includes.set(listOf(project.property("benchmarks") as String))
+    }
+}
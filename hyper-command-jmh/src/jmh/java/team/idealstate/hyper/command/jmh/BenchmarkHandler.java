@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.jmh;
+
+import team.idealstate.hyper.command.api.framework.CommandHandler;
+import team.idealstate.hyper.command.api.framework.annotation.RootCommand;
+import team.idealstate.hyper.command.api.framework.annotation.SubCommand;
+
+import java.math.BigDecimal;
+
+/**
+ * <p>BenchmarkHandler</p>
+ *
+ * <p>创建于 2026/10/18 18:24</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RootCommand("bench")
+public class BenchmarkHandler implements CommandHandler {
+
+    private long sink = 0L;
+
+    @SubCommand("say ${message}")
+    public boolean say(String message) {
+        sink += message.length();
+        return true;
+    }
+
+    @SubCommand("sum ${first} ${second}")
+    public boolean sum(Integer first, Integer second) {
+        sink += first + second;
+        return true;
+    }
+
+    @SubCommand("teleport ${x} ${y} ${z}")
+    public boolean teleport(double x, double y, double z) {
+        sink += (long) (x + y + z);
+        return true;
+    }
+
+    @SubCommand("toggle ${flag}")
+    public boolean toggle(boolean flag) {
+        sink += flag ? 1 : 0;
+        return true;
+    }
+
+    @SubCommand("pay ${amount}")
+    public boolean pay(BigDecimal amount) {
+        sink += amount.signum();
+        return true;
+    }
+
+    public long getSink() {
+        return sink;
+    }
+}
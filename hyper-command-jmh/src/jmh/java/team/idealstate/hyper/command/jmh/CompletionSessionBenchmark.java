@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.impl.CompletionSession;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+import team.idealstate.hyper.command.impl.example.ExampleUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>CompletionSessionBenchmark</p>
+ *
+ * <p>
+ * 模拟逐键输入一名玩家的名称，测量在 size 个候选项上每次都完整补全与通过 {@link CompletionSession} 补全的耗时，
+ * 每次调用补全除最后一个按键外的整个按键序列。
+ * </p>
+ *
+ * <p>创建于 2026/10/19 0:05</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompletionSessionBenchmark {
+
+    @Param({"1000", "50000"})
+    private int size;
+
+    private Command root;
+    private String[][] keystrokes;
+
+    @Setup
+    public void setup() {
+        List<String> players = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            players.add(String.format("player%05d", i));
+        }
+        root = FastCommand.root("基准测试")
+                .subCommand(FastCommand.command("tell")
+                        .exampleProvider(ExampleUtils.singleton("tell"))
+                        .argumentAcceptor(AcceptorUtils.isEquals("tell"))
+                        .subCommand(FastCommand.command("player")
+                                .exampleProvider(ExampleUtils.collection(players))
+                                .argumentAcceptor(AcceptorUtils.isContains(players))
+                                .commandExecutor(context -> true)));
+        // 名称定长，因此输入过程中的前缀都不是完整的名称
+        String name = players.get(size - 1);
+        keystrokes = new String[name.length() - 1][];
+        for (int i = 0; i < keystrokes.length; i++) {
+            keystrokes[i] = new String[]{"tell", name.substring(0, i + 1)};
+        }
+        if (!Objects.equals(full(), session())) {
+            throw new IllegalStateException("预期结果应为 相同的补全项");
+        }
+    }
+
+    @Benchmark
+    public List<String> full() {
+        List<String> result = null;
+        for (String[] args : keystrokes) {
+            result = FastCommand.complete(root, args);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> session() {
+        CompletionSession session = new CompletionSession(root);
+        List<String> result = null;
+        for (String[] args : keystrokes) {
+            result = session.complete(args);
+        }
+        return result;
+    }
+}
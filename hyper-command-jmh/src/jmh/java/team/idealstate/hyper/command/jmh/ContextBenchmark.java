@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import team.idealstate.hyper.command.api.ContextKey;
+import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
+import team.idealstate.hyper.command.api.framework.StandardConvertors;
+import team.idealstate.hyper.command.impl.CommandContextImpl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>ContextBenchmark</p>
+ *
+ * <p>
+ * 测量 {@link CommandContextImpl} 在一次调度中的典型用法：存取上下文值、转换参数后重置以供复用。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 18:36</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContextBenchmark {
+
+    private static final ContextKey SENDER = ContextKey.of("jmh.sender");
+    private static final ContextKey TARGET = ContextKey.of("jmh.target");
+    private static final ContextKey AMOUNT = ContextKey.of("jmh.amount");
+    private static final String[] ARGUMENTS = {"pay", "ketikai", "1024"};
+
+    private final CommandContextImpl context = new CommandContextImpl();
+    private ArgumentConvertor<Integer> integerConvertor;
+
+    @Setup
+    public void setup() {
+        integerConvertor = StandardConvertors.findArgumentConvertor(Integer.class);
+    }
+
+    @Benchmark
+    public Object putGetResetContextKey() {
+        context.put(SENDER, "console");
+        context.put(TARGET, "ketikai");
+        context.put(AMOUNT, 1024);
+        Object value = context.getValue(TARGET);
+        context.reset();
+        return value;
+    }
+
+    @Benchmark
+    public Object putGetResetString() {
+        context.put("jmh.sender", "console");
+        context.put("jmh.temporary", "ketikai");
+        Object value = context.getValue("jmh.temporary");
+        context.reset();
+        return value;
+    }
+
+    @Benchmark
+    public Object convertArgumentAndReset() throws Throwable {
+        context.setArguments(ARGUMENTS);
+        context.setDepth(2);
+        Integer first = context.convertArgument(integerConvertor);
+        // 同一位置的第二次转换命中缓存
+        Integer second = context.convertArgument(integerConvertor);
+        context.reset();
+        return first + second;
+    }
+}
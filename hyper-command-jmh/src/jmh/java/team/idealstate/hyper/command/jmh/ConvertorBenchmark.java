@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import team.idealstate.hyper.command.api.CommandContext;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.api.framework.ArgumentConvertor;
+import team.idealstate.hyper.command.api.framework.StandardConvertors;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>ConvertorBenchmark</p>
+ *
+ * <p>
+ * 测量 {@link StandardConvertors} 中各标准转换器的转换耗时，
+ * 以及以 {@link ArgumentConvertor#tryConvert(CommandContext, String)} 拒绝无效参数的耗时。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 18:32</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConvertorBenchmark {
+
+    private CommandContext context;
+    private ArgumentConvertor<Integer> integerConvertor;
+    private ArgumentConvertor<Double> doubleConvertor;
+
+    @Setup
+    public void setup() {
+        context = FastCommand.currentContext();
+        integerConvertor = StandardConvertors.findArgumentConvertor(Integer.class);
+        doubleConvertor = StandardConvertors.findArgumentConvertor(Double.class);
+    }
+
+    @Benchmark
+    public Integer convertInteger() throws Throwable {
+        return StandardConvertors.convert(context, "1024", Integer.class);
+    }
+
+    @Benchmark
+    public Long convertLong() throws Throwable {
+        return StandardConvertors.convert(context, "-9007199254740993", Long.class);
+    }
+
+    @Benchmark
+    public Double convertDouble() throws Throwable {
+        return StandardConvertors.convert(context, "-3.25", Double.class);
+    }
+
+    @Benchmark
+    public Boolean convertBoolean() throws Throwable {
+        return StandardConvertors.convert(context, "true", Boolean.class);
+    }
+
+    @Benchmark
+    public Character convertCharacter() throws Throwable {
+        return StandardConvertors.convert(context, "x", Character.class);
+    }
+
+    @Benchmark
+    public BigDecimal convertBigDecimal() throws Throwable {
+        return StandardConvertors.convert(context, "12345.6789", BigDecimal.class);
+    }
+
+    @Benchmark
+    public Object tryConvertInteger() {
+        return integerConvertor.tryConvert(context, "1024");
+    }
+
+    @Benchmark
+    public Object tryConvertIntegerRejected() {
+        return integerConvertor.tryConvert(context, "1024x");
+    }
+
+    @Benchmark
+    public Object tryConvertDoubleRejected() {
+        return doubleConvertor.tryConvert(context, "1.5e");
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+import team.idealstate.hyper.command.impl.example.ExampleUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>DispatchBenchmark</p>
+ *
+ * <p>
+ * 在宽度为 width、深度为 depth 的合成命令树上测量执行与补全的耗时。
+ * 每层有 width 个同级命令，仅最后一个命令带有下一层子命令，因此命令总数为 width * depth。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 18:20</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DispatchBenchmark {
+
+    @Param({"1", "16", "256"})
+    private int width;
+
+    @Param({"1", "4", "8"})
+    private int depth;
+
+    @Param({"false", "true"})
+    private boolean frozen;
+
+    private Command root;
+    private String[] hit;
+    private String[] miss;
+    private String[] prefix;
+
+    private static String label(int level, int index) {
+        return "node" + level + "_" + index;
+    }
+
+    private static Command node(String label) {
+        return FastCommand.command(label)
+                .exampleProvider(ExampleUtils.singleton(label))
+                .argumentAcceptor(AcceptorUtils.isEquals(label))
+                .commandExecutor(context -> true);
+    }
+
+    @Setup
+    public void setup() {
+        Command root = FastCommand.root("基准测试");
+        Command parent = root;
+        for (int level = 0; level < depth; level++) {
+            Command last = null;
+            for (int index = 0; index < width; index++) {
+                last = node(label(level, index));
+                parent.subCommand(last);
+            }
+            parent = last;
+        }
+        this.root = frozen ? root.freeze() : root;
+
+        hit = new String[depth];
+        for (int level = 0; level < depth; level++) {
+            hit[level] = label(level, width - 1);
+        }
+        miss = hit.clone();
+        miss[depth - 1] = "missing";
+        prefix = hit.clone();
+        prefix[depth - 1] = "node" + (depth - 1) + "_";
+
+        if (!Boolean.TRUE.equals(FastCommand.execute(this.root, hit))) {
+            throw new IllegalStateException("预期结果应为 true");
+        }
+        if (FastCommand.execute(this.root, miss) != null) {
+            throw new IllegalStateException("预期结果应为 null");
+        }
+        List<String> completed = FastCommand.complete(this.root, prefix);
+        if (completed == null || completed.size() != width) {
+            throw new IllegalStateException("预期结果应为 " + width + " 个补全项");
+        }
+    }
+
+    @Benchmark
+    public Boolean execute() {
+        return FastCommand.execute(root, hit);
+    }
+
+    @Benchmark
+    public Boolean executeMiss() {
+        return FastCommand.execute(root, miss);
+    }
+
+    @Benchmark
+    public List<String> complete() {
+        return FastCommand.complete(root, prefix);
+    }
+
+    @Benchmark
+    public List<String> completeLimited() {
+        return FastCommand.complete(root, prefix, 10);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import team.idealstate.hyper.command.impl.complete.FuzzyIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>FuzzyBenchmark</p>
+ *
+ * <p>
+ * 测量在 size 个候选项中查找排名前 5 的模糊匹配项的耗时，分别使用预先建立的 {@link FuzzyIndex} 与逐个遍历候选项的查找。
+ * </p>
+ *
+ * <p>创建于 2026/10/19 0:15</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FuzzyBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"tleport", "TEL", "qqqq"})
+    private String query;
+
+    private List<String> candidates;
+    private FuzzyIndex index;
+
+    @Setup
+    public void setup() {
+        candidates = new ArrayList<>(Arrays.asList("teleport", "tell", "time", "Teleporter", "weather"));
+        for (int i = 0; i < size; i++) {
+            candidates.add("entry" + i);
+        }
+        index = FuzzyIndex.of(candidates);
+        if (!index.search(query, 5).equals(FuzzyIndex.search(candidates, query, 5))) {
+            throw new IllegalStateException("预期结果应为 相同的匹配项");
+        }
+    }
+
+    @Benchmark
+    public List<String> indexed() {
+        return index.search(query, 5);
+    }
+
+    @Benchmark
+    public List<String> scan() {
+        return FuzzyIndex.search(candidates, query, 5);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.FastCommand;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>HandlerBenchmark</p>
+ *
+ * <p>
+ * 测量由 {@link BenchmarkHandler} 创建命令的启动开销，以及调用其子命令方法的耗时。
+ * 默认使用注解处理器生成的命令调度器，带上 -PreflectiveHandlers 运行时测量以反射方式创建的命令。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 18:28</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HandlerBenchmark {
+
+    private static final String[] SAY = {"bench", "say", "hello"};
+    private static final String[] SUM = {"bench", "sum", "1", "2"};
+    private static final String[] TELEPORT = {"bench", "teleport", "1.5", "64", "-3.25"};
+    private static final String[] SUM_REJECTED = {"bench", "sum", "1", "two"};
+
+    private Command root;
+
+    @Setup
+    public void setup() {
+        root = FastCommand.root("基准测试");
+        root.subCommand(FastCommand.command(BenchmarkHandler.class));
+        if (!Boolean.TRUE.equals(FastCommand.execute(root, SUM))) {
+            throw new IllegalStateException("预期结果应为 true");
+        }
+        if (FastCommand.execute(root, SUM_REJECTED) != null) {
+            throw new IllegalStateException("预期结果应为 null");
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Command createCommand() {
+        return FastCommand.command(BenchmarkHandler.class);
+    }
+
+    @Benchmark
+    public Boolean executeString() {
+        return FastCommand.execute(root, SAY);
+    }
+
+    @Benchmark
+    public Boolean executeIntegers() {
+        return FastCommand.execute(root, SUM);
+    }
+
+    @Benchmark
+    public Boolean executeDoubles() {
+        return FastCommand.execute(root, TELEPORT);
+    }
+
+    @Benchmark
+    public Boolean executeRejected() {
+        return FastCommand.execute(root, SUM_REJECTED);
+    }
+}
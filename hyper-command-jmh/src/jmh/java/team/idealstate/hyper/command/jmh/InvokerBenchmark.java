@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.jmh;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>InvokerBenchmark</p>
+ *
+ * <p>
+ * 对比反射路径中调用子命令方法的几种方式：直接调用、{@link MethodHandle#invokeWithArguments(Object...)}，
+ * 以及 {@code DefaultCommandFactory} 采用的 {@code asSpreader} 加 {@code invokeExact}。
+ * 每次调用都复制参数数组，与 {@code BindingPlan} 每次绑定都创建新数组一致。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 22:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InvokerBenchmark {
+
+    private final Target target = new Target();
+    private final Object[] arguments = {1, 2};
+    private MethodHandle methodHandle;
+    private MethodHandle spreadInvoker;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        methodHandle = MethodHandles.lookup()
+                .findVirtual(Target.class, "sum", MethodType.methodType(boolean.class, int.class, int.class))
+                .bindTo(target);
+        spreadInvoker = methodHandle
+                .asSpreader(Object[].class, 2)
+                .asType(MethodType.methodType(boolean.class, Object[].class));
+    }
+
+    @Benchmark
+    public boolean direct() {
+        Object[] argumentObjects = arguments.clone();
+        return target.sum((Integer) argumentObjects[0], (Integer) argumentObjects[1]);
+    }
+
+    @Benchmark
+    public boolean invokeWithArguments() throws Throwable {
+        return (boolean) methodHandle.invokeWithArguments(arguments.clone());
+    }
+
+    @Benchmark
+    public boolean spreadInvokeExact() throws Throwable {
+        return (boolean) spreadInvoker.invokeExact(arguments.clone());
+    }
+
+    public static class Target {
+
+        private long sum = 0L;
+
+        public boolean sum(int first, int second) {
+            sum += first + second;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.impl.CommandRegistry;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>RegistryBenchmark</p>
+ *
+ * <p>
+ * 测量在一次批量修改中向空注册表以标签注册 size 个命令的耗时，每个命令带有一个别名。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 23:55</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegistryBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private Command[] commands;
+
+    @Setup
+    public void setup() {
+        commands = new Command[size];
+        for (int i = 0; i < size; i++) {
+            String label = "command" + i;
+            commands[i] = FastCommand.command(label)
+                    .argumentAcceptor(AcceptorUtils.isEquals(label))
+                    .commandExecutor(context -> true);
+        }
+        if (registerBatch().getSubCommands().size() != size) {
+            throw new IllegalStateException("预期结果应为 " + size + " 个命令");
+        }
+    }
+
+    @Benchmark
+    public CommandRegistry registerBatch() {
+        CommandRegistry registry = new CommandRegistry("基准测试");
+        registry.update(editor -> {
+            for (int i = 0; i < commands.length; i++) {
+                editor.register("bench", "command" + i, commands[i], "alias" + i);
+            }
+        });
+        return registry;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package team.idealstate.hyper.command.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import team.idealstate.hyper.command.api.Command;
+import team.idealstate.hyper.command.api.DispatchResult;
+import team.idealstate.hyper.command.api.FastCommand;
+import team.idealstate.hyper.command.impl.CommandRegistry;
+import team.idealstate.hyper.command.impl.argument.AcceptorUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>SuggestionBenchmark</p>
+ *
+ * <p>
+ * 测量注册表中有 size 个字面量命令时，参数拼写错误的调度查找相近字面量的耗时。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 23:50</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SuggestionBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private CommandRegistry registry;
+    private String[][] typos;
+    private int next = 0;
+
+    private static Command node(String label) {
+        return FastCommand.command(label)
+                .argumentAcceptor(AcceptorUtils.isEquals(label))
+                .commandExecutor(context -> true);
+    }
+
+    @Setup
+    public void setup() {
+        CommandRegistry registry = new CommandRegistry("基准测试");
+        registry.update(editor -> {
+            for (int i = 0; i < size; i++) {
+                editor.register(node("command" + i));
+            }
+        });
+        this.registry = registry;
+        typos = new String[Math.min(size, 1024)][];
+        for (int i = 0; i < typos.length; i++) {
+            typos[i] = new String[]{"comand" + i};
+        }
+        DispatchResult dispatchResult = FastCommand.dispatch(registry, typos[typos.length - 1]);
+        if (!("command" + (typos.length - 1)).equals(dispatchResult.getSuggestions().get(0))) {
+            throw new IllegalStateException("预期结果应为 command" + (typos.length - 1));
+        }
+    }
+
+    @Benchmark
+    public DispatchResult dispatchTypo() {
+        String[] args = typos[next];
+        next = next + 1 == typos.length ? 0 : next + 1;
+        return FastCommand.dispatch(registry, args);
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2024 ideal-state
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package team.idealstate.hyper.command.processor;
+
+import team.idealstate.hyper.command.api.framework.annotation.RootCommand;
+import team.idealstate.hyper.command.api.framework.annotation.SubCommand;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>CommandHandlerProcessor</p>
+ *
+ * <p>
+ * 为标记了 {@link RootCommand} 的命令处理器生成调度器，调度器在同一个包中，
+ * 以普通 Java 代码构建命令树并直接调用子命令方法，运行时由 DefaultCommandFactory 优先加载。
+ * </p>
+ *
+ * <p>创建于 2026/10/18 11:26</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class CommandHandlerProcessor extends AbstractProcessor {
+
+    // 与 CommandHandlerDispatcher 保持一致
+    private static final String NAME_SUFFIX = "_CommandDispatcher";
+    private static final String COMMAND_HANDLER = "team.idealstate.hyper.command.api.framework.CommandHandler";
+    private static final String COMMAND = "team.idealstate.hyper.command.api.Command";
+    private static final String COMMAND_CONTEXT = "team.idealstate.hyper.command.api.CommandContext";
+    private static final String CONTEXT_KEY = "team.idealstate.hyper.command.api.ContextKey";
+    private static final String BUILDER = "team.idealstate.hyper.command.impl.framework.CommandHandlerBuilder";
+    private static final String DISPATCHER = "team.idealstate.hyper.command.impl.framework.CommandHandlerDispatcher";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(RootCommand.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(RootCommand.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@RootCommand 仅能标记于类上");
+                continue;
+            }
+            TypeElement typeElement = (TypeElement) element;
+            if (!validate(typeElement)) {
+                continue;
+            }
+            try {
+                generate(typeElement);
+            } catch (IOException e) {
+                error(typeElement, "无法生成命令调度器：" + e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private boolean validate(TypeElement typeElement) {
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+        Set<Modifier> modifiers = typeElement.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT)) {
+            error(typeElement, "命令处理器不能是抽象类");
+            return false;
+        }
+        TypeElement commandHandler = elements.getTypeElement(COMMAND_HANDLER);
+        if (commandHandler == null || !types.isAssignable(typeElement.asType(), types.erasure(commandHandler.asType()))) {
+            error(typeElement, "命令处理器必须实现 " + COMMAND_HANDLER);
+            return false;
+        }
+        Element current = typeElement;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                error(typeElement, "命令处理器及其外部类不能是私有的");
+                return false;
+            }
+            Element enclosing = current.getEnclosingElement();
+            if (enclosing.getKind() != ElementKind.PACKAGE && !current.getModifiers().contains(Modifier.STATIC)) {
+                error(typeElement, "嵌套的命令处理器必须是静态类");
+                return false;
+            }
+            current = enclosing;
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(typeElement.getEnclosedElements());
+        boolean hasConstructor = false;
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                hasConstructor = true;
+                break;
+            }
+        }
+        if (!hasConstructor) {
+            error(typeElement, "命令处理器缺少非私有的无参构造器");
+            return false;
+        }
+        boolean valid = true;
+        for (ExecutableElement method : ElementFilter.methodsIn(typeElement.getEnclosedElements())) {
+            if (!isSubCommand(method)) {
+                continue;
+            }
+            if (method.getModifiers().contains(Modifier.STATIC)) {
+                error(method, "子命令方法不能是静态方法");
+                valid = false;
+            } else if (method.getReturnType().getKind() != TypeKind.BOOLEAN) {
+                error(method, "子命令方法的返回值类型必须为 boolean");
+                valid = false;
+            } else if (!method.getTypeParameters().isEmpty()) {
+                error(method, "子命令方法不能声明类型参数");
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private static boolean isSubCommand(ExecutableElement method) {
+        if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+            return false;
+        }
+        SubCommand subCommand = method.getAnnotation(SubCommand.class);
+        return subCommand != null && !subCommand.value().trim().isEmpty();
+    }
+
+    private void generate(TypeElement typeElement) throws IOException {
+        Elements elements = processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(typeElement).getQualifiedName().toString();
+        String handlerName = typeElement.getQualifiedName().toString();
+        String simpleName = (packageName.isEmpty() ? handlerName : handlerName.substring(packageName.length() + 1))
+                .replace('.', '_') + NAME_SUFFIX;
+        String rootDescription = typeElement.getAnnotation(RootCommand.class).value();
+
+        StringBuilder source = new StringBuilder(1024);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * 由 hyper-command-processor 根据 {@link ").append(handlerName).append("} 生成，请勿修改\n")
+                .append(" */\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(DISPATCHER).append(" {\n\n");
+        // 各参数的上下文键在类初始化时解析为槽位
+        Set<String> keyNames = new LinkedHashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(typeElement.getEnclosedElements())) {
+            if (!isSubCommand(method)) {
+                continue;
+            }
+            Set<String> tokenNames = tokenNamesOf(method.getAnnotation(SubCommand.class).value());
+            for (VariableElement parameter : method.getParameters()) {
+                String parameterName = parameter.getSimpleName().toString();
+                if (!isContext(parameter.asType()) && tokenNames.contains(parameterName)) {
+                    keyNames.add(parameterName);
+                }
+            }
+        }
+        for (String keyName : keyNames) {
+            source.append("    private static final ").append(CONTEXT_KEY).append(" KEY_").append(keyName)
+                    .append(" = ").append(CONTEXT_KEY).append(".of(").append(literal("${" + keyName + "}")).append(");\n");
+        }
+        if (!keyNames.isEmpty()) {
+            source.append("\n");
+        }
+        source.append("    @Override\n")
+                .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("    public ").append(COMMAND).append(" createCommand() {\n")
+                .append("        ").append(handlerName).append(" commandHandler = new ").append(handlerName).append("();\n")
+                .append("        ").append(BUILDER).append(" builder = new ").append(BUILDER)
+                .append("(commandHandler, ").append(literal(rootDescription)).append(");\n");
+        Set<TypeKind> primitiveKinds = EnumSet.noneOf(TypeKind.class);
+        for (ExecutableElement method : ElementFilter.methodsIn(typeElement.getEnclosedElements())) {
+            if (!isSubCommand(method)) {
+                continue;
+            }
+            Set<String> tokenNames = tokenNamesOf(method.getAnnotation(SubCommand.class).value());
+            List<? extends VariableElement> parameters = method.getParameters();
+            StringBuilder names = new StringBuilder();
+            StringBuilder classes = new StringBuilder();
+            StringBuilder arguments = new StringBuilder();
+            for (int i = 0; i < parameters.size(); i++) {
+                VariableElement parameter = parameters.get(i);
+                String parameterName = parameter.getSimpleName().toString();
+                TypeMirror type = parameter.asType();
+                if (i > 0) {
+                    names.append(", ");
+                    classes.append(", ");
+                    arguments.append(",");
+                }
+                names.append(literal(parameterName));
+                classes.append(rawName(type)).append(".class");
+                arguments.append("\n                        ");
+                if (isContext(type)) {
+                    arguments.append("context");
+                } else if (tokenNames.contains(parameterName)) {
+                    // 基本类型的参数缺失时与 BindingPlan 一致地取默认值，而不是拆箱 null
+                    boolean primitive = type.getKind().isPrimitive();
+                    if (primitive) {
+                        primitiveKinds.add(type.getKind());
+                        arguments.append(rawName(type)).append("Value(");
+                    }
+                    arguments.append("context.getValue(KEY_").append(parameterName).append(", ")
+                            .append(valueName(type)).append(".class)");
+                    if (primitive) {
+                        arguments.append(")");
+                    }
+                } else {
+                    arguments.append(defaultValue(type));
+                }
+            }
+            source.append("        builder.subCommand(")
+                    .append(literal(method.getSimpleName().toString())).append(", ")
+                    .append(literal(method.getAnnotation(SubCommand.class).value())).append(",\n")
+                    .append("                new String[]{").append(names).append("},\n")
+                    .append("                new Class<?>[]{").append(classes).append("},\n")
+                    .append("                context -> commandHandler.").append(method.getSimpleName())
+                    .append("(").append(arguments).append("));\n");
+        }
+        source.append("        return builder.build();\n")
+                .append("    }\n");
+        for (TypeKind primitiveKind : primitiveKinds) {
+            TypeMirror type = processingEnv.getTypeUtils().getPrimitiveType(primitiveKind);
+            source.append("\n")
+                    .append("    private static ").append(rawName(type)).append(" ").append(rawName(type))
+                    .append("Value(").append(valueName(type)).append(" value) {\n")
+                    .append("        return value == null ? ").append(defaultValue(type)).append(" : value;\n")
+                    .append("    }\n");
+        }
+        source.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedName, typeElement);
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(source.toString());
+        }
+        Messager messager = processingEnv.getMessager();
+        messager.printMessage(Diagnostic.Kind.NOTE, "已生成命令调度器 " + qualifiedName);
+    }
+
+    private static Set<String> tokenNamesOf(String expression) {
+        Set<String> tokenNames = new LinkedHashSet<>();
+        for (String token : expression.split(" ", -1)) {
+            if (token.startsWith("${") && token.endsWith("}")) {
+                tokenNames.add(token.substring(2, token.length() - 1));
+            }
+        }
+        return tokenNames;
+    }
+
+    private boolean isContext(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && COMMAND_CONTEXT.equals(rawName(type));
+    }
+
+    // 与 BindingPlan 一致，无来源的参数以 null 或基本类型的默认值传入
+    private String defaultValue(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "false";
+            case BYTE:
+                return "(byte) 0";
+            case SHORT:
+                return "(short) 0";
+            case INT:
+                return "0";
+            case LONG:
+                return "0L";
+            case CHAR:
+                return "(char) 0";
+            case FLOAT:
+                return "0F";
+            case DOUBLE:
+                return "0D";
+            default:
+                return "(" + rawName(type) + ") null";
+        }
+    }
+
+    private String rawName(TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return type.getKind().name().toLowerCase();
+            case ARRAY:
+                return rawName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            default:
+                return rawName(types.erasure(type));
+        }
+    }
+
+    private String valueName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            Types types = processingEnv.getTypeUtils();
+            return types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString();
+        }
+        return rawName(type);
+    }
+
+    private static String literal(String string) {
+        StringBuilder builder = new StringBuilder(string.length() + 2).append('"');
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7E) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
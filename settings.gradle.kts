@@ -2,6 +2,8 @@ rootProject.name = "hyper-command"
 
 include(":hyper-command-api")
 include(":hyper-command-impl")
+include(":hyper-command-processor")
+include(":hyper-command-jmh")
 
 pluginManagement {
     repositories {